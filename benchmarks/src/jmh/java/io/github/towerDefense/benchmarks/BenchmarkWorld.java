@@ -0,0 +1,169 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Builds a jungle map game state for the benchmarks without a graphics context.
+ * Enemy types, towers and projectiles are created with null textures and sounds, which the game classes skip when drawing.
+ */
+
+package io.github.towerDefense.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import io.github.towerDefense.EnemyProgressIndex;
+import io.github.towerDefense.EnemySpatialGrid;
+import io.github.towerDefense.EnemyStore;
+import io.github.towerDefense.EnemyType;
+import io.github.towerDefense.Projectile;
+import io.github.towerDefense.ProjectilePool;
+import io.github.towerDefense.TowerPlacementManager;
+import io.github.towerDefense.Towers;
+import io.github.towerDefense.map.JungleMap;
+import io.github.towerDefense.map.JunglePath;
+
+final class BenchmarkWorld {
+    static final float WIDTH = 1920f;
+    static final float HEIGHT = 1080f;
+    static final float TICK = 1 / 60f;
+    static final float PATH_CLEARANCE_FROM_TOWER_EDGE = 10f; //same as the jungle map
+    static final int ENDLESS_HEALTH = Integer.MAX_VALUE / 2; //enemies never die, so every tick does the same work
+
+    final JunglePath path;
+    final EnemyStore enemies;
+    final EnemySpatialGrid enemyGrid;
+    final EnemyProgressIndex enemyProgress;
+    final ArrayList<Towers> towers;
+    final TowerPlacementManager placementManager;
+    final ArrayList<Projectile> projectiles;
+    final ProjectilePool projectilePool;
+    final Random random;
+    long tick; //ticks stepped so far
+
+    BenchmarkWorld() {
+        path = JungleMap.createPath(WIDTH, HEIGHT);
+        enemies = new EnemyStore(new EnemyType[] { new EnemyType(null, null, ENDLESS_HEALTH, 0, 100f, 0f, 0, Integer.MAX_VALUE) }, 128);
+        enemies.setPath(path);
+        enemyGrid = new EnemySpatialGrid(128f);
+        enemyProgress = new EnemyProgressIndex();
+        towers = new ArrayList<>();
+        placementManager = new TowerPlacementManager(towers);
+        projectiles = new ArrayList<>();
+        projectilePool = new ProjectilePool(64, 4096);
+        random = new Random(42);
+    }
+
+    /**
+     * Spawns enemies spread out along the path, the way waves release them one after another.
+     * Precondition: count is not negative.
+     * Postcondition: The store holds count enemies, none of which has reached the end of the path.
+     *
+     * @param count The number of enemies to spawn.
+     */
+    void spawnEnemies(int count) {
+        int ticksBetweenSpawns = Math.max(1, 3000 / Math.max(1, count));
+        for (int i = 0; i < count; i++) {
+            enemies.spawn(0, 100f, ENDLESS_HEALTH);
+            for (int t = 0; t < ticksBetweenSpawns; t++) {
+                step();
+            }
+        }
+    }
+
+    /**
+     * Moves the enemies one tick and sends the ones that reached the end back to the start.
+     * Precondition: None
+     * Postcondition: The number of enemies is unchanged.
+     */
+    void step() {
+        enemies.advanceTo(++tick);
+        for (int slot = enemies.size() - 1; slot >= 0; slot--) {
+            if (enemies.hasReachedEnd(slot)) {
+                enemies.removeAt(slot);
+                enemies.spawn(0, 100f, ENDLESS_HEALTH);
+            }
+        }
+    }
+
+    /**
+     * Places towers on a regular grid at every spot the game would accept, until count towers stand.
+     * Precondition: count is not negative.
+     * Postcondition: Up to count towers are placed, none overlapping each other or the path.
+     *
+     * @param count The number of towers to place.
+     * @param spacing The distance between neighbouring candidate spots.
+     */
+    void placeTowers(int count, float spacing) {
+        for (float y = 0; y + Towers.SIZE <= HEIGHT && towers.size() < count; y += spacing) {
+            for (float x = 0; x + Towers.SIZE <= WIDTH && towers.size() < count; x += spacing) {
+                if (!isValidPlacement(x, y)) continue;
+                placementManager.addTower(new Towers(x, y, 200f, 1f, 0.3f, null, null, null)); //stats of the first tower type
+            }
+        }
+    }
+
+    /**
+     * Places count towers even when the map has fewer free spots, by filling every spot and then stacking more towers on the same spots in turn.
+     * Stacked towers overlap, which the game would not allow, but each one does the same targeting work as a tower on its own spot.
+     * Precondition: count is not negative and the map has at least one free spot.
+     * Postcondition: Exactly count towers are placed.
+     *
+     * @param count The number of towers to place.
+     */
+    void placeStackedTowers(int count) {
+        placeTowers(count, Towers.SIZE);
+        int spots = towers.size();
+        for (int i = 0; towers.size() < count; i++) {
+            Towers spot = towers.get(i % spots);
+            towers.add(new Towers(spot.x, spot.y, 200f, 1f, 0.3f, null, null, null));
+        }
+    }
+
+    /**
+     * Checks a tower spot the same way the drop handler of the jungle map does.
+     * Precondition: None
+     * Postcondition: Returns true if a tower could be placed with its bottom-left corner at the given point.
+     *
+     * @param x The x-coordinate of the tower.
+     * @param y The y-coordinate of the tower.
+     * @return true if the spot is free, false otherwise.
+     */
+    boolean isValidPlacement(float x, float y) {
+        return !placementManager.isOverlapping(x, y)
+            && !placementManager.isNearPath(x + Towers.SIZE / 2f, y + Towers.SIZE / 2f, path, PATH_CLEARANCE_FROM_TOWER_EDGE);
+    }
+
+    /**
+     * Fires a projectile from a random tower, or from a random point if there are none, at a random enemy.
+     * Precondition: The store holds at least one enemy.
+     * Postcondition: One projectile is added to the projectiles list.
+     *
+     * @param splashRadius The splash radius of the projectile, 0 to hit only the target.
+     */
+    void fireRandomProjectile(float splashRadius) {
+        float x;
+        float y;
+        if (towers.isEmpty()) {
+            x = random.nextFloat() * WIDTH;
+            y = random.nextFloat() * HEIGHT;
+        } else {
+            Towers tower = towers.get(random.nextInt(towers.size()));
+            x = tower.x + Towers.SIZE / 2f;
+            y = tower.y + Towers.SIZE / 2f;
+        }
+        int targetId = enemies.getId(random.nextInt(enemies.size()));
+        projectiles.add(projectilePool.obtain().init(x, y, targetId, 500f, 1, null, -1, splashRadius));
+    }
+
+    /**
+     * Returns every projectile to the pool.
+     * Precondition: None
+     * Postcondition: The projectiles list is empty.
+     */
+    void freeProjectiles() {
+        for (int i = 0; i < projectiles.size(); i++) {
+            projectilePool.free(projectiles.get(i));
+        }
+        projectiles.clear();
+    }
+}
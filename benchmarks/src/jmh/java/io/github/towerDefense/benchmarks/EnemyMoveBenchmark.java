@@ -0,0 +1,53 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Measures one tick of enemy movement along the jungle map path.
+ */
+
+package io.github.towerDefense.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EnemyMoveBenchmark {
+    @Param({"50", "500", "5000"})
+    public int enemyCount;
+
+    private BenchmarkWorld world;
+
+    /**
+     * Builds the map and spreads the enemies along the path.
+     * Precondition: None
+     * Postcondition: The world holds enemyCount enemies.
+     */
+    @Setup
+    public void setUp() {
+        world = new BenchmarkWorld();
+        world.spawnEnemies(enemyCount);
+    }
+
+    /**
+     * Moves every enemy by one tick.
+     * Precondition: setUp has run.
+     * Postcondition: Enemies that reached the end start over, so the enemy count stays the same.
+     *
+     * @return the number of enemies, so the work cannot be optimised away.
+     */
+    @Benchmark
+    public int move() {
+        world.step();
+        return world.enemies.size();
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Measures the two-phase tower update with the target phase split across 1 to 8 threads, to show how it scales with large tower counts.
+ * One thread runs the serial path the game uses below the parallel threshold.
+ */
+
+package io.github.towerDefense.benchmarks;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.github.towerDefense.TargetingMode;
+import io.github.towerDefense.TowerUpdater;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParallelTowerUpdateBenchmark {
+    @Param({"500", "5000"})
+    public int enemyCount;
+
+    @Param({"200", "400"})
+    public int towerCount;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private BenchmarkWorld world;
+    private ForkJoinPool pool;
+    private TowerUpdater towerUpdater;
+
+    /**
+     * Builds the map, spreads the enemies along the path and places the towers, alternating between closest and first targeting.
+     * Precondition: None
+     * Postcondition: The updater splits the target phase across the given number of threads, or runs it serially for one thread.
+     */
+    @Setup
+    public void setUp() {
+        world = new BenchmarkWorld();
+        world.spawnEnemies(enemyCount);
+        world.placeStackedTowers(towerCount);
+        for (int i = 0; i < world.towers.size(); i++) {
+            world.towers.get(i).setTargetingMode(i % 2 == 0 ? TargetingMode.CLOSEST : TargetingMode.FIRST);
+        }
+        pool = threads > 1 ? new ForkJoinPool(threads) : null;
+        towerUpdater = new TowerUpdater(pool, 1);
+    }
+
+    /**
+     * Stops the threads of the pool.
+     * Precondition: None
+     * Postcondition: The pool is shut down.
+     */
+    @TearDown
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Rebuilds the targeting structures and updates every tower in two phases, like the tower step of one tick.
+     * Precondition: setUp has run.
+     * Postcondition: Fired projectiles are returned to the pool so the list does not grow between invocations.
+     *
+     * @return the number of projectiles fired, so the work cannot be optimised away.
+     */
+    @Benchmark
+    public int update() {
+        world.step();
+        world.enemyGrid.rebuild(world.enemies, BenchmarkWorld.WIDTH, BenchmarkWorld.HEIGHT);
+        world.enemyProgress.rebuild(world.enemies);
+        towerUpdater.update(world.towers, BenchmarkWorld.TICK, world.enemies, world.enemyGrid, world.enemyProgress, world.path, world.projectiles, world.projectilePool);
+        int fired = world.projectiles.size();
+        world.freeProjectiles();
+        return fired;
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Measures the placement checks run while a tower is dragged over the map.
+ */
+
+package io.github.towerDefense.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.towerDefense.Towers;
+import io.github.towerDefense.map.PathClearanceField;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PlacementBenchmark {
+    private static final int CANDIDATES = 1024; // power of two, so the index wraps with a mask
+    private static final float MASK_STEP = 4f;
+
+    @Param({"0", "50", "200"})
+    public int towerCount;
+
+    @Param({"false", "true"})
+    public boolean pathClearance;
+
+    private BenchmarkWorld world;
+    private final float[] candidateX = new float[CANDIDATES];
+    private final float[] candidateY = new float[CANDIDATES];
+    private final boolean[] valid = new boolean[CANDIDATES];
+    private int next;
+    private int maskColumns;
+    private int maskRows;
+    private boolean[] mask;
+
+    /**
+     * Builds the map, places the towers and picks random cursor positions.
+     * Precondition: None
+     * Postcondition: The candidate positions cover the whole map; isNearPath uses the distance field if pathClearance is set.
+     */
+    @Setup
+    public void setUp() {
+        world = new BenchmarkWorld();
+        if (pathClearance) {
+            world.placementManager.setPathClearance(new PathClearanceField(world.path, BenchmarkWorld.WIDTH, BenchmarkWorld.HEIGHT, 4f, Towers.SIZE));
+        }
+        world.placeTowers(towerCount, Towers.SIZE);
+        for (int i = 0; i < CANDIDATES; i++) {
+            candidateX[i] = world.random.nextFloat() * (BenchmarkWorld.WIDTH - Towers.SIZE);
+            candidateY[i] = world.random.nextFloat() * (BenchmarkWorld.HEIGHT - Towers.SIZE);
+        }
+        maskColumns = (int) ((BenchmarkWorld.WIDTH - Towers.SIZE) / MASK_STEP) + 1;
+        maskRows = (int) ((BenchmarkWorld.HEIGHT - Towers.SIZE) / MASK_STEP) + 1;
+        mask = new boolean[maskColumns * maskRows];
+    }
+
+    /**
+     * Checks one cursor position against the placed towers.
+     * Precondition: setUp has run.
+     * Postcondition: Moves on to the next candidate position.
+     *
+     * @return true if the position overlaps a tower.
+     */
+    @Benchmark
+    public boolean isOverlapping() {
+        int i = next++ & (CANDIDATES - 1);
+        return world.placementManager.isOverlapping(candidateX[i], candidateY[i]);
+    }
+
+    /**
+     * Checks one cursor position against the path.
+     * Precondition: setUp has run.
+     * Postcondition: Moves on to the next candidate position.
+     *
+     * @return true if the position is too close to the path.
+     */
+    @Benchmark
+    public boolean isNearPath() {
+        int i = next++ & (CANDIDATES - 1);
+        return world.placementManager.isNearPath(candidateX[i] + Towers.SIZE / 2f, candidateY[i] + Towers.SIZE / 2f, world.path, BenchmarkWorld.PATH_CLEARANCE_FROM_TOWER_EDGE);
+    }
+
+    /**
+     * Validates every candidate position in one batch call.
+     * Precondition: setUp has run.
+     * Postcondition: None
+     *
+     * @return the number of valid candidates.
+     */
+    @Benchmark
+    public int validatePlacements() {
+        return world.placementManager.validatePlacements(candidateX, candidateY, CANDIDATES, world.path, BenchmarkWorld.PATH_CLEARANCE_FROM_TOWER_EDGE, valid);
+    }
+
+    /**
+     * Computes the placement mask of the whole map on a 4 px grid.
+     * Precondition: setUp has run.
+     * Postcondition: None
+     *
+     * @return the number of valid spots.
+     */
+    @Benchmark
+    public int computePlacementMask() {
+        return world.placementManager.computePlacementMask(maskColumns, maskRows, MASK_STEP, world.path, BenchmarkWorld.PATH_CLEARANCE_FROM_TOWER_EDGE, mask);
+    }
+}
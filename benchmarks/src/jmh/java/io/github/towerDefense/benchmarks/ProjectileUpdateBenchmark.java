@@ -0,0 +1,84 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Measures one tick of projectile flight and hit checks, with and without splash damage.
+ */
+
+package io.github.towerDefense.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import io.github.towerDefense.Projectile;
+import io.github.towerDefense.Towers;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProjectileUpdateBenchmark {
+    @Param({"500", "5000"})
+    public int enemyCount;
+
+    @Param({"100", "1000", "4000"})
+    public int projectileCount;
+
+    @Param({"0", "90"})
+    public float splashRadius; //90 is the splash tower's radius
+
+    private final IntArray splashHits = new IntArray(64);
+
+    private BenchmarkWorld world;
+
+    /**
+     * Builds the map, spreads the enemies along the path and fires the projectiles.
+     * Precondition: None
+     * Postcondition: projectileCount projectiles are in flight.
+     */
+    @Setup
+    public void setUp() {
+        world = new BenchmarkWorld();
+        world.spawnEnemies(enemyCount);
+        world.placeTowers(50, Towers.SIZE);
+        world.enemyGrid.rebuild(world.enemies, BenchmarkWorld.WIDTH, BenchmarkWorld.HEIGHT); //the enemies stand still, so it stays valid
+        for (int i = 0; i < projectileCount; i++) {
+            world.fireRandomProjectile(splashRadius);
+        }
+    }
+
+    /**
+     * Moves every projectile by one tick, the way the jungle map does.
+     * Precondition: setUp has run.
+     * Postcondition: Every projectile that hit or lost its target is returned to the pool and replaced, so the number in flight stays the same.
+     *
+     * @return the number of projectiles that finished this tick, so the work cannot be optimised away.
+     */
+    @Benchmark
+    public int update() {
+        int finished = 0;
+        for (int i = world.projectiles.size() - 1; i >= 0; i--) {
+            Projectile projectile = world.projectiles.get(i);
+            projectile.update(BenchmarkWorld.TICK, world.enemies, world.enemyGrid, splashHits);
+            if (!projectile.isActive()) {
+                world.projectiles.set(i, world.projectiles.get(world.projectiles.size() - 1));
+                world.projectiles.remove(world.projectiles.size() - 1);
+                world.projectilePool.free(projectile);
+                finished++;
+            }
+        }
+        for (int i = 0; i < finished; i++) {
+            world.fireRandomProjectile(splashRadius);
+        }
+        return finished;
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Measures one tick of target acquisition and firing for every tower on the map.
+ */
+
+package io.github.towerDefense.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.towerDefense.TargetingMode;
+import io.github.towerDefense.Towers;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TowerUpdateBenchmark {
+    @Param({"50", "500", "5000"})
+    public int enemyCount;
+
+    @Param({"10", "50", "200"})
+    public int towerCount;
+
+    @Param({"CLOSEST", "FIRST", "STRONGEST"})
+    public TargetingMode targetingMode;
+
+    private BenchmarkWorld world;
+
+    /**
+     * Builds the map, spreads the enemies along the path and places the towers.
+     * Precondition: None
+     * Postcondition: Every tower uses the benchmark's targeting mode.
+     */
+    @Setup
+    public void setUp() {
+        world = new BenchmarkWorld();
+        world.spawnEnemies(enemyCount);
+        world.placeTowers(towerCount, Towers.SIZE);
+        for (Towers tower : world.towers) {
+            tower.setTargetingMode(targetingMode);
+        }
+    }
+
+    /**
+     * Rebuilds the targeting structures and updates every tower, like one frame of the jungle map.
+     * Precondition: setUp has run.
+     * Postcondition: Fired projectiles are returned to the pool so the list does not grow between invocations.
+     *
+     * @return the number of projectiles fired, so the work cannot be optimised away.
+     */
+    @Benchmark
+    public int update() {
+        world.step();
+        world.enemyGrid.rebuild(world.enemies, BenchmarkWorld.WIDTH, BenchmarkWorld.HEIGHT);
+        world.enemyProgress.rebuild(world.enemies);
+        for (int i = 0; i < world.towers.size(); i++) {
+            world.towers.get(i).update(BenchmarkWorld.TICK, world.enemies, world.enemyGrid, world.enemyProgress, world.path, world.projectiles, world.projectilePool);
+        }
+        int fired = world.projectiles.size();
+        world.freeProjectiles();
+        return fired;
+    }
+}
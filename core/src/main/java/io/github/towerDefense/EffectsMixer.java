@@ -0,0 +1,125 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Plays the sound effects of the game without flooding the audio device.
+ * Effects asked for during a frame are collected and played together once the frame is done. A sound asked for again within a few
+ * milliseconds of its last play is merged into that play, and a sound is skipped once it, or the game as a whole, has as many voices
+ * playing as allowed. A splash tower killing twenty enemies at once therefore costs a handful of plays instead of twenty.
+ * Everything runs on the render thread, since libGDX's OpenAL audio is not thread safe and the backend updates it there every frame.
+ */
+
+package io.github.towerDefense;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.FloatArray;
+
+public class EffectsMixer {
+    public static final long COALESCE_NANOS = 40_000_000L; //plays of the same sound closer than this are heard as one
+    public static final int MAX_VOICES_PER_SOUND = 4;
+    public static final int MAX_VOICES = 12; //OpenAL has 16 sources by default, the rest are left for the music
+    private static final long VOICE_NANOS = 1_000_000_000L; //how long a play counts as a voice, Sound does not report when it ends
+
+    //requests of the current frame
+    private final ArrayList<Sound> pendingSounds;
+    private final FloatArray pendingVolumes;
+
+    //voices still counted as sounding
+    private final ArrayDeque<Voice> voices;
+    private final HashMap<Sound, Integer> voicesPerSound;
+    private final HashMap<Sound, Long> lastPlayed;
+
+    /**
+     * Constructor for the EffectsMixer class.
+     */
+    public EffectsMixer() {
+        pendingSounds = new ArrayList<>();
+        pendingVolumes = new FloatArray();
+        voices = new ArrayDeque<>();
+        voicesPerSound = new HashMap<>();
+        lastPlayed = new HashMap<>();
+    }
+
+    /**
+     * Asks for a sound effect to be played at the end of the frame.
+     * Precondition: Called on the render thread.
+     * Postcondition: The request is queued unless SettingsScreen.effectEnabled is false or sound is null. Asking for the same sound
+     * twice in a frame queues it once, at the louder of the two volumes.
+     *
+     * @param sound The sound to play.
+     * @param volume The volume, from 0 to 1; louder values are played at 1.
+     */
+    public void play(Sound sound, float volume) {
+        if (!SettingsScreen.effectEnabled || sound == null) return;
+
+        volume = Math.min(1f, volume);
+        for (int i = 0; i < pendingSounds.size(); i++) {
+            if (pendingSounds.get(i) == sound) {
+                pendingVolumes.items[i] = Math.max(pendingVolumes.items[i], volume);
+                return;
+            }
+        }
+        pendingSounds.add(sound);
+        pendingVolumes.add(volume);
+    }
+
+    /**
+     * Plays the effects of the frame.
+     * Precondition: Called once a frame on the render thread.
+     * Postcondition: The queue is empty; each effect has been played, merged into a recent play of the same sound, or skipped.
+     */
+    public void flush() {
+        if (pendingSounds.isEmpty()) return;
+
+        long now = System.nanoTime();
+        while (!voices.isEmpty() && now - voices.peekFirst().start >= VOICE_NANOS) { //voices end in the order they started
+            Voice ended = voices.pollFirst();
+            voicesPerSound.put(ended.sound, voicesPerSound.get(ended.sound) - 1);
+        }
+
+        for (int i = 0; i < pendingSounds.size(); i++) {
+            Sound sound = pendingSounds.get(i);
+            Long last = lastPlayed.get(sound);
+            if (last != null && now - last < COALESCE_NANOS) continue; //heard together with the last play
+            int playing = voicesPerSound.getOrDefault(sound, 0);
+            if (playing >= MAX_VOICES_PER_SOUND || voices.size() >= MAX_VOICES) continue;
+
+            sound.play(pendingVolumes.items[i]);
+            lastPlayed.put(sound, now);
+            voicesPerSound.put(sound, playing + 1);
+            voices.addLast(new Voice(sound, now));
+        }
+        pendingSounds.clear();
+        pendingVolumes.clear();
+    }
+
+    /**
+     * Drops the effects not played yet.
+     * Precondition: None
+     * Postcondition: The queue and the voice counts are empty. Must be called before the sounds are disposed of, so no play refers to them.
+     */
+    public void dispose() {
+        pendingSounds.clear();
+        pendingVolumes.clear();
+        voices.clear();
+        voicesPerSound.clear();
+        lastPlayed.clear();
+    }
+
+    /**
+     * A play that is still counted as sounding.
+     */
+    private static class Voice {
+        final Sound sound;
+        final long start;
+
+        Voice(Sound sound, long start) {
+            this.sound = sound;
+            this.start = start;
+        }
+    }
+}
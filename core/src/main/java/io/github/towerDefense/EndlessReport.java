@@ -0,0 +1,191 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Writes one CSV line per wave of an endless game: frame times, how much of a frame went to drawing, simulation time per tick and
+ * the peak number of enemies, towers and projectiles. Since the waves of endless rules keep growing, the report shows how the game scales with the number of entities.
+ * It stops once the frame rate stays below a target, which is the wave the game can no longer keep up with.
+ */
+
+package io.github.towerDefense;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+public class EndlessReport {
+    public static final float DEFAULT_TARGET_FPS = 30f;
+    private static final float WINDOW_SECONDS = 1f; //the frame rate is measured over windows of this length
+    private static final int SLOW_WINDOWS_TO_STOP = 3; //a single hitch, e.g. a garbage collection, does not end the report
+    private static final FrameProfiler.Phase[] TICK_PHASES = {
+        FrameProfiler.Phase.TARGETING, FrameProfiler.Phase.PROJECTILES, FrameProfiler.Phase.ENEMIES, FrameProfiler.Phase.WAVES
+    };
+
+    private final FileHandle file;
+    private final float targetFps;
+    private Writer writer;
+    private String result; //why the report ended, null while running
+
+    //the wave being measured
+    private int wave;
+    private int frames;
+    private double seconds;
+    private float maxFrameSeconds;
+    private long renderNanos; //drawing and the UI stage only, the ticks are counted in tickNanos
+    private long tickNanos;
+    private long ticks;
+    private int maxEnemies;
+    private int maxTowers;
+    private int maxProjectiles;
+
+    //the frame rate window
+    private int windowFrames;
+    private float windowSeconds;
+    private int slowWindows;
+
+    /**
+     * Constructor for the EndlessReport class, opens the CSV file and writes its header.
+     * If the file cannot be opened the reason is printed and nothing is reported.
+     *
+     * @param file The CSV file to write.
+     * @param targetFps The frame rate the game must keep; the report ends after a few seconds below it.
+     */
+    public EndlessReport(FileHandle file, float targetFps) {
+        this.file = file;
+        this.targetFps = targetFps;
+        try {
+            writer = new BufferedWriter(file.writer(false));
+            writer.write("wave,frames,seconds,fps,avg_frame_ms,max_frame_ms,avg_render_ms,ticks,avg_tick_ms,max_enemies,max_towers,max_projectiles\n");
+            writer.flush();
+            System.out.println("Recording endless report to " + file.path() + " until below " + targetFps + " FPS");
+        } catch (GdxRuntimeException | IOException e) {
+            System.out.println("Could not open endless report " + file.path() + ": " + e.getMessage());
+            closeWriter();
+            result = "not recorded";
+        }
+    }
+
+    /**
+     * Adds a frame to the report.
+     * Precondition: Called once a frame, after profiler.endFrame.
+     * Postcondition: The frame is counted towards its wave. When the wave number changes, the line of the previous wave is written.
+     * When the frame rate has been below the target for SLOW_WINDOWS_TO_STOP windows in a row, the report ends. Nothing happens after it ended.
+     *
+     * @param delta The time since the last frame in seconds.
+     * @param profiler The profiler holding the frame's phase times and entity counts.
+     * @param frameTicks The number of simulation ticks run during the frame.
+     * @param waveNumber The current wave.
+     */
+    public void recordFrame(float delta, FrameProfiler profiler, int frameTicks, int waveNumber) {
+        if (result != null) return;
+
+        if (waveNumber != wave) {
+            writeWave();
+            startWave(waveNumber);
+        }
+
+        frames++;
+        seconds += delta;
+        maxFrameSeconds = Math.max(maxFrameSeconds, delta);
+        renderNanos += profiler.getFrameTime(FrameProfiler.Phase.DRAW) + profiler.getFrameTime(FrameProfiler.Phase.STAGE);
+        for (FrameProfiler.Phase phase : TICK_PHASES) {
+            tickNanos += profiler.getFrameTime(phase);
+        }
+        ticks += frameTicks;
+        maxEnemies = Math.max(maxEnemies, profiler.getEnemyCount());
+        maxTowers = Math.max(maxTowers, profiler.getTowerCount());
+        maxProjectiles = Math.max(maxProjectiles, profiler.getProjectileCount());
+
+        windowFrames++;
+        windowSeconds += delta;
+        if (windowSeconds >= WINDOW_SECONDS) {
+            float fps = windowFrames / windowSeconds;
+            slowWindows = fps < targetFps ? slowWindows + 1 : 0;
+            windowFrames = 0;
+            windowSeconds = 0f;
+            if (slowWindows >= SLOW_WINDOWS_TO_STOP) {
+                finish(String.format(Locale.ROOT, "fell below %.0f FPS in wave %d with %d enemies", targetFps, wave, profiler.getEnemyCount()));
+            }
+        }
+    }
+
+    private void startWave(int waveNumber) {
+        wave = waveNumber;
+        frames = 0;
+        seconds = 0;
+        maxFrameSeconds = 0f;
+        renderNanos = 0;
+        tickNanos = 0;
+        ticks = 0;
+        maxEnemies = 0;
+        maxTowers = 0;
+        maxProjectiles = 0;
+    }
+
+    private void writeWave() {
+        if (writer == null || frames == 0) return;
+
+        String line = String.format(Locale.ROOT, "%d,%d,%.2f,%.1f,%.2f,%.2f,%.2f,%d,%.3f,%d,%d,%d\n",
+            wave, frames, seconds, frames / Math.max(seconds, 1e-6), seconds * 1000 / frames, maxFrameSeconds * 1000,
+            renderNanos / 1e6 / frames, ticks, ticks > 0 ? tickNanos / 1e6 / ticks : 0.0, maxEnemies, maxTowers, maxProjectiles);
+        try {
+            writer.write(line);
+            writer.flush(); //one line a wave, kept on disk even if the game is killed when it stops responding
+        } catch (IOException e) {
+            System.out.println("Could not write endless report: " + e.getMessage());
+            closeWriter();
+        }
+    }
+
+    /**
+     * Ends the report.
+     * Precondition: None
+     * Postcondition: The line of the current wave is written, the file is closed and the result is printed; later calls do nothing.
+     *
+     * @param reason Why the report ends, e.g. "ran out of lives in wave 12".
+     */
+    public void finish(String reason) {
+        if (result != null) return;
+
+        writeWave();
+        result = reason;
+        System.out.println("Endless report " + reason + ", saved to " + file.path());
+        closeWriter();
+    }
+
+    /**
+     * Checks if the report has ended.
+     * Precondition: None
+     * Postcondition: Returns true once the frame rate stayed below the target or finish was called.
+     *
+     * @return true if nothing more is recorded, false otherwise.
+     */
+    public boolean isFinished() {
+        return result != null;
+    }
+
+    /**
+     * Gets why the report ended.
+     * Precondition: None
+     * Postcondition: Returns the reason, or null while recording.
+     *
+     * @return The result of the report.
+     */
+    public String getResult() {
+        return result;
+    }
+
+    private void closeWriter() {
+        if (writer == null) return;
+        try {
+            writer.close();
+        } catch (IOException e) {
+            System.out.println("Could not close endless report: " + e.getMessage());
+        }
+        writer = null;
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Keeps living enemies ordered by how far they have travelled along the path.
+ */
+
+package io.github.towerDefense;
+
+import java.util.Arrays;
+
+public class EnemyProgressIndex {
+    private int[] orderedIds; // furthest along the path first, carried over between ticks
+    private int[] orderedSlots;
+    private float[] distances;
+    private int size;
+    private int newestIndexedId;
+
+    public EnemyProgressIndex() {
+        orderedIds = new int[64];
+        orderedSlots = new int[64];
+        distances = new float[64];
+        size = 0;
+        newestIndexedId = -1;
+    }
+
+    /**
+     * Re-orders the living enemies by distance travelled.
+     * Precondition: enemies must not be null.
+     * Postcondition: The index holds every living enemy, furthest along first. The order of the previous tick is reused and
+     * new enemies join at the back, so the insertion sort only has to fix the few enemies that overtook each other.
+     *
+     * @param enemies The enemies on the map.
+     */
+    public void rebuild(EnemyStore enemies) {
+        if (orderedIds.length < enemies.size()) {
+            int capacity = Math.max(enemies.size(), orderedIds.length * 2);
+            orderedIds = Arrays.copyOf(orderedIds, capacity);
+            orderedSlots = new int[capacity];
+            distances = new float[capacity];
+        }
+
+        //keep last tick's order for enemies that are still alive
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int slot = enemies.slotOf(orderedIds[i]);
+            if (slot >= 0 && enemies.isAlive(slot)) {
+                orderedIds[kept] = orderedIds[i];
+                orderedSlots[kept] = slot;
+                kept++;
+            }
+        }
+        size = kept;
+
+        //append enemies spawned since the last rebuild; ids grow in spawn order
+        int newest = newestIndexedId;
+        for (int slot = 0; slot < enemies.size(); slot++) {
+            int id = enemies.getId(slot);
+            if (id <= newestIndexedId || !enemies.isAlive(slot)) continue;
+
+            int j = size - 1;
+            while (j >= kept && orderedIds[j] > id) {
+                orderedIds[j + 1] = orderedIds[j];
+                orderedSlots[j + 1] = orderedSlots[j];
+                j--;
+            }
+            orderedIds[j + 1] = id;
+            orderedSlots[j + 1] = slot;
+            size++;
+            newest = Math.max(newest, id);
+        }
+        newestIndexedId = newest;
+
+        //insertion sort by distance, furthest first
+        for (int i = 0; i < size; i++) {
+            int id = orderedIds[i];
+            int slot = orderedSlots[i];
+            float distance = enemies.getDistanceTravelled(slot);
+            int j = i - 1;
+            while (j >= 0 && distances[j] < distance) {
+                orderedIds[j + 1] = orderedIds[j];
+                orderedSlots[j + 1] = orderedSlots[j];
+                distances[j + 1] = distances[j];
+                j--;
+            }
+            orderedIds[j + 1] = id;
+            orderedSlots[j + 1] = slot;
+            distances[j + 1] = distance;
+        }
+    }
+
+    /**
+     * Selects a target among the enemies whose path distance lies in the given window.
+     * Precondition: rebuild has been called for the current tick, no enemy has been removed since, and the window comes from JunglePath.getCoverage for the same range.
+     * Postcondition: Only enemies inside the window are visited; FIRST and LAST stop at the first enemy in range.
+     *
+     * @param enemies The enemies the index was rebuilt from.
+     * @param mode FIRST, LAST, STRONGEST or WEAKEST.
+     * @param centerX x-coordinate of the tower's center.
+     * @param centerY y-coordinate of the tower's center.
+     * @param range the attack range of the tower.
+     * @param windowStart the smallest path distance that can be in range.
+     * @param windowEnd the largest path distance that can be in range.
+     * @return The slot of the selected enemy, or -1 if no enemy is in range.
+     */
+    public int find(EnemyStore enemies, TargetingMode mode, float centerX, float centerY, float range, float windowStart, float windowEnd) {
+        int first = firstIndexAtOrBelow(windowEnd);
+        int last = first;
+        while (last < size && distances[last] >= windowStart) {
+            last++;
+        }
+
+        if (mode == TargetingMode.LAST) {
+            for (int i = last - 1; i >= first; i--) {
+                if (isInRange(enemies, orderedSlots[i], centerX, centerY, range)) return orderedSlots[i];
+            }
+            return -1;
+        }
+
+        int selected = -1;
+        for (int i = first; i < last; i++) {
+            int slot = orderedSlots[i];
+            if (!isInRange(enemies, slot, centerX, centerY, range)) continue;
+            if (mode == TargetingMode.FIRST) return slot;
+
+            //ties go to the enemy further along, which is visited first
+            if (selected < 0
+                || (mode == TargetingMode.STRONGEST && enemies.getHealth(slot) > enemies.getHealth(selected))
+                || (mode == TargetingMode.WEAKEST && enemies.getHealth(slot) < enemies.getHealth(selected))) {
+                selected = slot;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Forgets every indexed enemy, e.g. when the enemies are replaced by a loaded snapshot whose ids the index has seen before.
+     * Precondition: None
+     * Postcondition: The index is empty and the next rebuild indexes every enemy in the store.
+     */
+    public void clear() {
+        size = 0;
+        newestIndexedId = -1;
+    }
+
+    /**
+     * Returns the number of living enemies in the index.
+     * Precondition: None
+     * Postcondition: Returns the size of the index.
+     *
+     * @return The number of indexed enemies.
+     */
+    public int size() {
+        return size;
+    }
+
+    private int firstIndexAtOrBelow(float distance) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (distances[middle] > distance) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static boolean isInRange(EnemyStore enemies, int slot, float centerX, float centerY, float range) {
+        if (!enemies.isAlive(slot)) return false;
+        float dx = enemies.getX(slot) - centerX;
+        float dy = enemies.getY(slot) - centerY;
+        return dx * dx + dy * dy <= range * range;
+    }
+}
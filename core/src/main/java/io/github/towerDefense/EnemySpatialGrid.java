@@ -0,0 +1,181 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Uniform grid of enemy centres used by towers to find targets, and by splash projectiles to find what they hit, without scanning every enemy.
+ */
+
+package io.github.towerDefense;
+
+import com.badlogic.gdx.utils.IntArray;
+
+public class EnemySpatialGrid {
+    private final float cellSize;
+    private int columns;
+    private int rows;
+    private int[] cellStart; // index of the first enemy of each cell in cellSlots, plus one end marker
+    private int[] cellCursor;
+    private int[] cellSlots;
+    private int[] enemyCells;
+
+    /**
+     * Constructor for the EnemySpatialGrid class.
+     *
+     * @param cellSize The width and height of one grid cell in world units.
+     */
+    public EnemySpatialGrid(float cellSize) {
+        this.cellSize = cellSize;
+        this.columns = 1;
+        this.rows = 1;
+        this.cellStart = new int[2];
+        this.cellCursor = new int[1];
+        this.cellSlots = new int[64];
+        this.enemyCells = new int[64];
+    }
+
+    /**
+     * Re-buckets all living enemies by the cell containing their centre.
+     * Precondition: enemies must not be null; width and height describe the playing field.
+     * Postcondition: The grid reflects the enemies' current positions. Enemies outside the field are kept in the nearest edge cell.
+     *
+     * @param enemies The enemies on the map.
+     * @param width The width of the playing field.
+     * @param height The height of the playing field.
+     */
+    public void rebuild(EnemyStore enemies, float width, float height) {
+        columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        int cellCount = columns * rows;
+        if (cellStart.length < cellCount + 1) {
+            cellStart = new int[cellCount + 1];
+            cellCursor = new int[cellCount];
+        }
+        if (enemyCells.length < enemies.size()) {
+            enemyCells = new int[Math.max(enemies.size(), enemyCells.length * 2)];
+            cellSlots = new int[enemyCells.length];
+        }
+
+        for (int i = 0; i <= cellCount; i++) {
+            cellStart[i] = 0;
+        }
+
+        //count enemies per cell
+        for (int i = 0; i < enemies.size(); i++) {
+            if (!enemies.isAlive(i)) {
+                enemyCells[i] = -1;
+                continue;
+            }
+            int cell = cellIndex(column(enemies.getX(i)), row(enemies.getY(i)));
+            enemyCells[i] = cell;
+            cellStart[cell + 1]++;
+        }
+
+        //turn counts into start offsets
+        for (int i = 0; i < cellCount; i++) {
+            cellStart[i + 1] += cellStart[i];
+        }
+
+        //place enemies, advancing a cursor through each cell's slice
+        System.arraycopy(cellStart, 0, cellCursor, 0, cellCount);
+        for (int i = 0; i < enemies.size(); i++) {
+            int cell = enemyCells[i];
+            if (cell < 0) continue;
+            cellSlots[cellCursor[cell]++] = i;
+        }
+    }
+
+    /**
+     * Collects every living enemy within a radius of a point, e.g. everything caught in a splash.
+     * Precondition: rebuild has been called for the current tick and no enemy has been removed since; out must not be null.
+     * Postcondition: out holds the slots of the enemies in range, in grid order, and nothing else. Only the cells overlapping the
+     * circle are visited and nothing is allocated once out has grown to the largest result.
+     *
+     * @param enemies The enemies the grid was rebuilt from.
+     * @param x The x-coordinate of the point.
+     * @param y The y-coordinate of the point.
+     * @param radius The maximum distance from the point to an enemy's centre.
+     * @param out The buffer the slots are written to; it is cleared first.
+     * @return The number of enemies found.
+     */
+    public int findInRange(EnemyStore enemies, float x, float y, float radius, IntArray out) {
+        out.clear();
+        float radiusSq = radius * radius;
+
+        int minColumn = column(x - radius);
+        int maxColumn = column(x + radius);
+        int minRow = row(y - radius);
+        int maxRow = row(y + radius);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                int cell = cellIndex(column, row);
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    int slot = cellSlots[i];
+                    if (!enemies.isAlive(slot)) continue;
+
+                    float dx = enemies.getX(slot) - x;
+                    float dy = enemies.getY(slot) - y;
+                    if (dx * dx + dy * dy <= radiusSq) {
+                        out.add(slot);
+                    }
+                }
+            }
+        }
+        return out.size;
+    }
+
+    /**
+     * Finds the living enemy closest to a point, within the given range.
+     * Precondition: rebuild has been called for the current tick and no enemy has been removed since.
+     * Postcondition: Only the cells overlapping the range circle are visited.
+     *
+     * @param enemies The enemies the grid was rebuilt from.
+     * @param x The x-coordinate of the point.
+     * @param y The y-coordinate of the point.
+     * @param range The maximum distance from the point to an enemy's centre.
+     * @return The slot of the closest enemy in range, or -1 if there is none.
+     */
+    public int findClosest(EnemyStore enemies, float x, float y, float range) {
+        int closest = -1;
+        float closestDistanceSq = Float.MAX_VALUE;
+        float rangeSq = range * range;
+
+        int minColumn = column(x - range);
+        int maxColumn = column(x + range);
+        int minRow = row(y - range);
+        int maxRow = row(y + range);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                int cell = cellIndex(column, row);
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    int slot = cellSlots[i];
+                    if (!enemies.isAlive(slot)) continue;
+
+                    float dx = enemies.getX(slot) - x;
+                    float dy = enemies.getY(slot) - y;
+                    float distanceSq = dx * dx + dy * dy;
+                    if (distanceSq <= rangeSq && distanceSq < closestDistanceSq) {
+                        closestDistanceSq = distanceSq;
+                        closest = slot;
+                    }
+                }
+            }
+        }
+        return closest;
+    }
+
+    private int column(float x) {
+        int column = (int) Math.floor(x / cellSize);
+        return Math.max(0, Math.min(columns - 1, column));
+    }
+
+    private int row(float y) {
+        int row = (int) Math.floor(y / cellSize);
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+
+    private int cellIndex(int column, int row) {
+        return row * columns + column;
+    }
+}
@@ -0,0 +1,468 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Packed storage for every enemy on a map, one slot per enemy in parallel arrays.
+ * Removing an enemy moves the last slot into the hole, so slots only stay valid until the next removal.
+ * Anything that follows an enemy across frames (tower targets, projectiles) keeps its id and looks the slot up with slotOf.
+ * An enemy is stored as the tick it set off, the distance it set off from and its speed. How far it has travelled follows from the tick
+ * number and its position from the path's arc-length lookup, so nothing is integrated step by step and movement is exact at any tick size.
+ */
+
+package io.github.towerDefense;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntIntMap;
+
+import io.github.towerDefense.map.JunglePath;
+
+public class EnemyStore {
+    public static final float SIZE = 60; //size of the enemy
+    private static final int MAX_SNAPSHOT_ENEMIES = 1 << 20; //far more than any wave, a larger count means the snapshot is damaged
+
+    private final EnemyType[] types;
+    private JunglePath path;
+    private long tick; //tick the positions were last worked out for
+    private final Vector2 scratch = new Vector2(); //for positions drawn between ticks
+
+    private int size;
+    private int nextId;
+    private final IntIntMap slotById;
+
+    //per-slot data, positions are enemy centres
+    private float[] x;
+    private float[] y;
+    private float[] speed;
+    private long[] startTick; //tick from which the enemy moves at its speed
+    private float[] startDistance; //distance along the path at startTick
+    private float[] distanceTravelled; //distance along the path at tick
+    private int[] health;
+    private int[] type;
+    private int[] id;
+    private int[] lastHitBy; //tower type index of the last hit, -1 if never hit
+
+    /**
+     * Constructor for the EnemyStore class.
+     *
+     * @param types The enemy type table of the map; enemies refer to their type by index.
+     * @param initialCapacity The number of enemies the store is sized for up front.
+     */
+    public EnemyStore(EnemyType[] types, int initialCapacity) {
+        this.types = types;
+        this.slotById = new IntIntMap(initialCapacity);
+        int capacity = Math.max(1, initialCapacity);
+        x = new float[capacity];
+        y = new float[capacity];
+        speed = new float[capacity];
+        startTick = new long[capacity];
+        startDistance = new float[capacity];
+        distanceTravelled = new float[capacity];
+        health = new int[capacity];
+        type = new int[capacity];
+        id = new int[capacity];
+        lastHitBy = new int[capacity];
+    }
+
+    /**
+     * Sets the path every enemy follows, e.g. after the screen was resized.
+     * Precondition: None
+     * Postcondition: Enemies continue on the new path from the same fraction of its length they had covered on the old one.
+     *
+     * @param path The path that the enemies follow.
+     */
+    public void setPath(JunglePath path) {
+        JunglePath oldPath = this.path;
+        this.path = path;
+        if (path == null || path.getNumWaypoints() == 0) {
+            return;
+        }
+        if (oldPath != null && oldPath.getPathLength() > 0f) {
+            rescale(path.getPathLength() / oldPath.getPathLength());
+        }
+        updatePositions();
+    }
+
+    /**
+     * Adds an enemy at the start of the path.
+     * Precondition: The path must be set and have at least one waypoint; typeIndex must be a valid index into the type table.
+     * Postcondition: The enemy occupies the last slot and sets off from the current tick.
+     *
+     * @param typeIndex The index of the enemy's type in the type table.
+     * @param enemySpeed The speed at which the enemy moves.
+     * @param enemyHealth The health of the enemy.
+     * @return The id of the new enemy.
+     */
+    public int spawn(int typeIndex, float enemySpeed, int enemyHealth) {
+        if (size == x.length) {
+            grow();
+        }
+
+        Vector2 start = path.getWaypoint(0);
+        int slot = size++;
+        x[slot] = start.x;
+        y[slot] = start.y;
+        speed[slot] = enemySpeed;
+        startTick[slot] = tick;
+        startDistance[slot] = 0f;
+        distanceTravelled[slot] = 0f;
+        health[slot] = enemyHealth;
+        type[slot] = typeIndex;
+        id[slot] = nextId++;
+        lastHitBy[slot] = -1;
+        slotById.put(id[slot], slot);
+        return id[slot];
+    }
+
+    /**
+     * Moves every enemy to where it is at a tick.
+     * Precondition: tick is not before the tick of the last call.
+     * Postcondition: Each enemy's distance travelled is its start distance plus its speed times the time since its start tick, and its position
+     * is the point of the path at that distance. Enemies past the end of the path stand on the last waypoint until they are removed.
+     *
+     * @param tick The number of the tick, counting in GameSimulation.TICK steps.
+     */
+    public void advanceTo(long tick) {
+        this.tick = tick;
+        updatePositions();
+    }
+
+    private void updatePositions() {
+        if (path == null || path.getNumWaypoints() == 0) {
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            distanceTravelled[i] = distanceAt(i, tick, 0f);
+            path.positionAt(distanceTravelled[i], scratch);
+            x[i] = scratch.x;
+            y[i] = scratch.y;
+        }
+    }
+
+    private float distanceAt(int slot, long atTick, float fraction) {
+        float elapsed = ((atTick - startTick[slot]) + fraction) * GameSimulation.TICK; //ticks are subtracted exactly, whatever the tick count
+        return startDistance[slot] + speed[slot] * Math.max(0f, elapsed);
+    }
+
+    private void rescale(float factor) {
+        for (int i = 0; i < size; i++) {
+            startDistance[i] = distanceAt(i, tick, 0f) * factor;
+            startTick[i] = tick;
+        }
+    }
+
+    /**
+     * Queues every enemy for the map's render pass.
+     * Precondition: The queue must not be null and alpha is between 0 and 1.
+     * Postcondition: Each enemy with a sprite is queued on the enemy layer at the point of the path it reaches between the last tick and the next,
+     * so enemies drawn between ticks follow the path around corners instead of cutting them.
+     *
+     * @param queue The sprite queue of the current frame.
+     * @param alpha How far the frame is between the tick before the last and the last, 1 for the current position.
+     */
+    public void queueSprites(SpriteQueue queue, float alpha) {
+        if (path == null || path.getNumWaypoints() == 0) {
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            TextureRegion region = types[type[i]].getRegion();
+            path.positionAt(distanceAt(i, tick - 1, alpha), scratch); //the last tick is drawn at alpha 1
+            queue.add(SpriteQueue.LAYER_ENEMIES, region, scratch.x - SIZE / 2f, scratch.y - SIZE / 2f, SIZE, SIZE);
+        }
+    }
+
+    /**
+     * Applies damage to the enemy in a slot.
+     * Precondition: slot must be between 0 and size() - 1.
+     * Postcondition: The enemy's health is reduced by the damage and the source is remembered as its last hit.
+     *
+     * @param slot The slot of the enemy.
+     * @param damage The amount of damage to apply.
+     * @param source The tower type index of the attacker, or -1 if unknown.
+     */
+    public void takeDamage(int slot, int damage, int source) {
+        health[slot] -= damage;
+        lastHitBy[slot] = source;
+    }
+
+    /**
+     * Gets the tower type that hit the enemy in a slot last, which is the one credited with its defeat.
+     * Precondition: slot must be between 0 and size() - 1.
+     * Postcondition: Returns the tower type index passed to the last takeDamage, or -1 if the enemy was never hit.
+     *
+     * @param slot The slot of the enemy.
+     * @return The tower type index of the last hit.
+     */
+    public int getLastHitBy(int slot) {
+        return lastHitBy[slot];
+    }
+
+    /**
+     * Removes the enemy in a slot by moving the last enemy into it.
+     * Precondition: slot must be between 0 and size() - 1.
+     * Postcondition: The enemy's id no longer resolves to a slot, and the former last enemy now occupies the slot.
+     *
+     * @param slot The slot to remove.
+     */
+    public void removeAt(int slot) {
+        slotById.remove(id[slot], -1);
+        int last = --size;
+        if (slot != last) {
+            x[slot] = x[last];
+            y[slot] = y[last];
+            speed[slot] = speed[last];
+            startTick[slot] = startTick[last];
+            startDistance[slot] = startDistance[last];
+            distanceTravelled[slot] = distanceTravelled[last];
+            health[slot] = health[last];
+            type[slot] = type[last];
+            id[slot] = id[last];
+            lastHitBy[slot] = lastHitBy[last];
+            slotById.put(id[slot], slot);
+        }
+    }
+
+    /**
+     * Removes every enemy.
+     * Precondition: None
+     * Postcondition: The store is empty; ids keep counting up so old ids never resolve again.
+     */
+    public void clear() {
+        size = 0;
+        slotById.clear();
+    }
+
+    /**
+     * Writes every enemy to a snapshot, one slot after another.
+     * Precondition: out must not be null.
+     * Postcondition: The tick, the path length, the id counter and each enemy's id, type, speed, start tick and distance, health and last hit are written
+     * in the order read reads them.
+     *
+     * @param out The snapshot being written.
+     * @throws IOException If the snapshot cannot be written.
+     */
+    public void write(DataOutput out) throws IOException {
+        out.writeLong(tick);
+        out.writeFloat(path != null ? path.getPathLength() : 0f);
+        out.writeInt(nextId);
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeInt(id[i]);
+            out.writeByte(type[i]);
+            out.writeFloat(speed[i]);
+            out.writeLong(startTick[i]);
+            out.writeFloat(startDistance[i]);
+            out.writeInt(health[i]);
+            out.writeByte(lastHitBy[i]);
+        }
+    }
+
+    /**
+     * Replaces every enemy with the ones written by write.
+     * Precondition: in must not be null and the snapshot was written with the same enemy type table.
+     * Postcondition: The store holds the saved enemies under their saved ids at their saved progress. If the path has another length than when
+     * the snapshot was written, e.g. because the window has another size, progress is scaled to it like on setPath. The enemies are read into
+     * a separate store first, so if reading fails the store is unchanged.
+     *
+     * @param in The snapshot being read.
+     * @throws IOException If the snapshot cannot be read, has an impossible enemy count or refers to an unknown enemy type.
+     */
+    public void read(DataInput in) throws IOException {
+        long savedTick = in.readLong();
+        float savedPathLength = in.readFloat();
+        int savedNextId = in.readInt();
+        int count = in.readInt();
+        if (count < 0 || count > MAX_SNAPSHOT_ENEMIES) {
+            throw new IOException("snapshot has " + count + " enemies");
+        }
+
+        EnemyStore staged = new EnemyStore(types, 16); //grown while reading, so a damaged count runs out of data before it runs out of memory
+        for (int i = 0; i < count; i++) {
+            if (i == staged.x.length) {
+                staged.grow();
+            }
+            staged.id[i] = in.readInt();
+            staged.type[i] = in.readUnsignedByte();
+            if (staged.type[i] >= types.length) {
+                throw new IOException("unknown enemy type " + staged.type[i]);
+            }
+            staged.speed[i] = in.readFloat();
+            staged.startTick[i] = in.readLong();
+            staged.startDistance[i] = in.readFloat();
+            staged.health[i] = in.readInt();
+            staged.lastHitBy[i] = in.readByte();
+        }
+
+        //everything has been read, take over the staged enemies
+        clear();
+        tick = savedTick;
+        nextId = savedNextId;
+        x = staged.x;
+        y = staged.y;
+        speed = staged.speed;
+        startTick = staged.startTick;
+        startDistance = staged.startDistance;
+        distanceTravelled = staged.distanceTravelled;
+        health = staged.health;
+        type = staged.type;
+        id = staged.id;
+        lastHitBy = staged.lastHitBy;
+        size = count;
+        for (int i = 0; i < count; i++) {
+            slotById.put(id[i], i);
+        }
+        if (path != null && savedPathLength > 0f && path.getPathLength() != savedPathLength) {
+            rescale(path.getPathLength() / savedPathLength);
+        }
+        updatePositions();
+    }
+
+    /**
+     * Looks up the current slot of an enemy.
+     * Precondition: None
+     * Postcondition: Returns the slot, or -1 if the enemy has been removed.
+     *
+     * @param enemyId The id returned by spawn.
+     * @return The slot of the enemy, or -1.
+     */
+    public int slotOf(int enemyId) {
+        return enemyId < 0 ? -1 : slotById.get(enemyId, -1);
+    }
+
+    /**
+     * Checks if the enemy in a slot is still alive.
+     * Precondition: slot must be between 0 and size() - 1.
+     * Postcondition: Returns true if the enemy's health is greater than 0, false otherwise.
+     *
+     * @param slot The slot of the enemy.
+     * @return true if the enemy is alive, false otherwise.
+     */
+    public boolean isAlive(int slot) {
+        return health[slot] > 0;
+    }
+
+    /**
+     * Checks if the enemy in a slot has reached the end of the path.
+     * Precondition: slot must be between 0 and size() - 1.
+     * Postcondition: Returns true if the enemy has travelled the whole length of the path, false otherwise.
+     *
+     * @param slot The slot of the enemy.
+     * @return true if the enemy has reached the end of the path, false otherwise.
+     */
+    public boolean hasReachedEnd(int slot) {
+        return path != null && path.getNumWaypoints() > 0 && distanceTravelled[slot] >= path.getPathLength();
+    }
+
+    /**
+     * Returns the number of enemies in the store.
+     * Precondition: None
+     * Postcondition: Returns the number of occupied slots.
+     *
+     * @return The number of enemies.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the store has no enemies.
+     * Precondition: None
+     * Postcondition: Returns true if no slots are occupied, false otherwise.
+     *
+     * @return true if there are no enemies, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the id of the enemy in a slot.
+     * Precondition: slot must be between 0 and size() - 1.
+     * Postcondition: Returns the id given out by spawn.
+     *
+     * @param slot The slot of the enemy.
+     * @return The id of the enemy.
+     */
+    public int getId(int slot) {
+        return id[slot];
+    }
+
+    /**
+     * Returns the x-coordinate of the centre of the enemy in a slot.
+     * Precondition: slot must be between 0 and size() - 1.
+     * Postcondition: Returns the x-coordinate.
+     *
+     * @param slot The slot of the enemy.
+     * @return The x-coordinate of the enemy's centre.
+     */
+    public float getX(int slot) {
+        return x[slot];
+    }
+
+    /**
+     * Returns the y-coordinate of the centre of the enemy in a slot.
+     * Precondition: slot must be between 0 and size() - 1.
+     * Postcondition: Returns the y-coordinate.
+     *
+     * @param slot The slot of the enemy.
+     * @return The y-coordinate of the enemy's centre.
+     */
+    public float getY(int slot) {
+        return y[slot];
+    }
+
+    /**
+     * Returns the current health of the enemy in a slot.
+     * Precondition: slot must be between 0 and size() - 1.
+     * Postcondition: Returns the health.
+     *
+     * @param slot The slot of the enemy.
+     * @return The health of the enemy.
+     */
+    public int getHealth(int slot) {
+        return health[slot];
+    }
+
+    /**
+     * Returns how far the enemy in a slot has moved along the path.
+     * Precondition: slot must be between 0 and size() - 1.
+     * Postcondition: Returns the distance travelled, between 0 and the path length.
+     *
+     * @param slot The slot of the enemy.
+     * @return The distance travelled along the path.
+     */
+    public float getDistanceTravelled(int slot) {
+        return distanceTravelled[slot];
+    }
+
+    /**
+     * Returns the type of the enemy in a slot.
+     * Precondition: slot must be between 0 and size() - 1.
+     * Postcondition: Returns the shared EnemyType.
+     *
+     * @param slot The slot of the enemy.
+     * @return The type of the enemy.
+     */
+    public EnemyType getType(int slot) {
+        return types[type[slot]];
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        startTick = Arrays.copyOf(startTick, capacity);
+        startDistance = Arrays.copyOf(startDistance, capacity);
+        distanceTravelled = Arrays.copyOf(distanceTravelled, capacity);
+        health = Arrays.copyOf(health, capacity);
+        type = Arrays.copyOf(type, capacity);
+        id = Arrays.copyOf(id, capacity);
+        lastHitBy = Arrays.copyOf(lastHitBy, capacity);
+    }
+}
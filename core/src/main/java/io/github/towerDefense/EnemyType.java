@@ -0,0 +1,145 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Immutable data shared by every enemy of the same tier.
+ */
+
+package io.github.towerDefense;
+
+import java.util.Properties;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+public final class EnemyType {
+    private final TextureRegion region;
+    private final Sound deathSound;
+    private final int baseHealth;
+    private final int healthPerWave;
+    private final float baseSpeed;
+    private final float speedPerWave;
+    private final int waveOffset;
+    private final int lastWave;
+
+    /**
+     * Constructor for the EnemyType class.
+     * The health of an enemy spawned in wave w is baseHealth + (w - waveOffset) * healthPerWave, and likewise for speed.
+     *
+     * @param region The sprite shared by enemies of this type, or null when running without graphics.
+     * @param deathSound The sound played when an enemy of this type is defeated, or null for none.
+     * @param baseHealth The health at the wave offset.
+     * @param healthPerWave The health gained per wave after the offset.
+     * @param baseSpeed The speed at the wave offset.
+     * @param speedPerWave The speed gained per wave after the offset.
+     * @param waveOffset The wave the base stats are measured from.
+     * @param lastWave The last wave that spawns this type.
+     */
+    public EnemyType(TextureRegion region, Sound deathSound, int baseHealth, int healthPerWave, float baseSpeed, float speedPerWave, int waveOffset, int lastWave) {
+        this.region = region;
+        this.deathSound = deathSound;
+        this.baseHealth = baseHealth;
+        this.healthPerWave = healthPerWave;
+        this.baseSpeed = baseSpeed;
+        this.speedPerWave = speedPerWave;
+        this.waveOffset = waveOffset;
+        this.lastWave = lastWave;
+    }
+
+    /**
+     * Finds the type spawned in the given wave.
+     * Precondition: table is ordered by lastWave and is not empty.
+     * Postcondition: Returns the index of the first type whose lastWave is at least the wave, or the last type.
+     *
+     * @param table The enemy types of a map.
+     * @param wave The wave number.
+     * @return The index of the type in the table.
+     */
+    public static int indexForWave(EnemyType[] table, int wave) {
+        for (int i = 0; i < table.length - 1; i++) {
+            if (wave <= table[i].lastWave) {
+                return i;
+            }
+        }
+        return table.length - 1;
+    }
+
+    /**
+     * Returns a copy of this type with the given sprite and death sound.
+     * Precondition: None
+     * Postcondition: Returns a new type with the same stats; this type is unchanged.
+     *
+     * @param enemyRegion The sprite of the copy, or null when running without graphics.
+     * @param enemyDeathSound The death sound of the copy, or null for none.
+     * @return The copy.
+     */
+    public EnemyType withAssets(TextureRegion enemyRegion, Sound enemyDeathSound) {
+        return new EnemyType(enemyRegion, enemyDeathSound, baseHealth, healthPerWave, baseSpeed, speedPerWave, waveOffset, lastWave);
+    }
+
+    /**
+     * Returns a copy of this type with some stats replaced.
+     * Precondition: parameters and prefix must not be null.
+     * Postcondition: Returns a new type reading prefix + "baseHealth", "healthPerWave", "baseSpeed", "speedPerWave", "waveOffset" and "lastWave";
+     * missing keys keep their value.
+     *
+     * @param parameters The replacement values.
+     * @param prefix The start of this type's keys, e.g. "enemy1.".
+     * @return The changed enemy type.
+     */
+    EnemyType withParameters(Properties parameters, String prefix) {
+        return new EnemyType(region, deathSound,
+            GameRules.intParameter(parameters, prefix + "baseHealth", baseHealth),
+            GameRules.intParameter(parameters, prefix + "healthPerWave", healthPerWave),
+            GameRules.floatParameter(parameters, prefix + "baseSpeed", baseSpeed),
+            GameRules.floatParameter(parameters, prefix + "speedPerWave", speedPerWave),
+            GameRules.intParameter(parameters, prefix + "waveOffset", waveOffset),
+            GameRules.intParameter(parameters, prefix + "lastWave", lastWave));
+    }
+
+    /**
+     * Returns the health of an enemy of this type spawned in the given wave.
+     * Precondition: None
+     * Postcondition: Returns the scaled health.
+     *
+     * @param wave The wave number.
+     * @return The starting health.
+     */
+    public int getHealthForWave(int wave) {
+        return baseHealth + (wave - waveOffset) * healthPerWave;
+    }
+
+    /**
+     * Returns the speed of an enemy of this type spawned in the given wave.
+     * Precondition: None
+     * Postcondition: Returns the scaled speed.
+     *
+     * @param wave The wave number.
+     * @return The speed in world units per second.
+     */
+    public float getSpeedForWave(int wave) {
+        return baseSpeed + (wave - waveOffset) * speedPerWave;
+    }
+
+    /**
+     * Returns the sprite shared by enemies of this type.
+     * Precondition: None
+     * Postcondition: Returns the region, or null when running without graphics.
+     *
+     * @return The enemy sprite.
+     */
+    public TextureRegion getRegion() {
+        return region;
+    }
+
+    /**
+     * Returns the sound played when an enemy of this type is defeated.
+     * Precondition: None
+     * Postcondition: Returns the death sound, or null for none.
+     *
+     * @return The death sound.
+     */
+    public Sound getDeathSound() {
+        return deathSound;
+    }
+}
@@ -0,0 +1,329 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Times each phase of a map's frame with System.nanoTime and keeps the last few seconds of samples,
+ * so the overlay can show p50/p95/p99/max per phase. Frames can also be streamed to a CSV file for later comparison.
+ */
+
+package io.github.towerDefense;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+public class FrameProfiler {
+    /**
+     * The parts of a frame that are timed separately.
+     */
+    public enum Phase {
+        TARGETING("Targeting"),
+        PROJECTILES("Projectiles"),
+        ENEMIES("Enemies"),
+        WAVES("Waves"),
+        DRAW("Draw"),
+        STAGE("Stage"),
+        FRAME("Frame");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Returns the name shown on the overlay and in the CSV header.
+         * Precondition: None
+         * Postcondition: Returns the label of the phase.
+         *
+         * @return The label of the phase.
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    public static final int WINDOW = 300; //frames kept for the percentiles, five seconds at 60 FPS
+    private static final int SUMMARY_INTERVAL = 30; //frames between percentile updates
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long[][] samples; //nanoseconds per phase, ring buffer of WINDOW frames
+    private final long[] phaseStart;
+    private final long[] frameTimes; //this frame's time per phase
+    private int frameIndex;
+    private int frameCount;
+    private long totalFrames;
+
+    private final long[] sorted;
+    private final long[][] summary; //p50, p95, p99 and max per phase
+    private int summaryVersion;
+
+    private int enemyCount;
+    private int towerCount;
+    private int projectileCount;
+
+    private Writer csvWriter;
+    private FileHandle csvFile;
+    private final StringBuilder csvLine;
+    private char[] csvChars; //csvLine is copied here, so writing a line does not create a String
+
+    public FrameProfiler() {
+        samples = new long[PHASES.length][WINDOW];
+        phaseStart = new long[PHASES.length];
+        frameTimes = new long[PHASES.length];
+        sorted = new long[WINDOW];
+        summary = new long[PHASES.length][4];
+        csvLine = new StringBuilder(128);
+        csvChars = new char[128];
+    }
+
+    /**
+     * Starts a new frame.
+     * Precondition: None
+     * Postcondition: The times of the previous frame are cleared and the FRAME phase is started.
+     */
+    public void beginFrame() {
+        Arrays.fill(frameTimes, 0L);
+        start(Phase.FRAME);
+    }
+
+    /**
+     * Starts timing a phase.
+     * Precondition: phase must not be null.
+     * Postcondition: The current time is remembered as the start of the phase.
+     *
+     * @param phase The phase that starts.
+     */
+    public void start(Phase phase) {
+        phaseStart[phase.ordinal()] = System.nanoTime();
+    }
+
+    /**
+     * Stops timing a phase.
+     * Precondition: start was called for the phase during this frame.
+     * Postcondition: The time since start is added to the phase's time for this frame, so a phase may be timed in several pieces.
+     *
+     * @param phase The phase that ends.
+     */
+    public void stop(Phase phase) {
+        frameTimes[phase.ordinal()] += System.nanoTime() - phaseStart[phase.ordinal()];
+    }
+
+    /**
+     * Ends the frame and records its times.
+     * Precondition: beginFrame was called for this frame.
+     * Postcondition: The frame's times replace the oldest frame in the window, the percentiles are refreshed every
+     * SUMMARY_INTERVAL frames, and a CSV line is written if recording.
+     *
+     * @param enemies The number of enemies on the map.
+     * @param towers The number of towers on the map.
+     * @param projectiles The number of projectiles in flight.
+     */
+    public void endFrame(int enemies, int towers, int projectiles) {
+        stop(Phase.FRAME);
+        for (int p = 0; p < PHASES.length; p++) {
+            samples[p][frameIndex] = frameTimes[p];
+        }
+        frameIndex = (frameIndex + 1) % WINDOW;
+        frameCount = Math.min(frameCount + 1, WINDOW);
+        totalFrames++;
+
+        enemyCount = enemies;
+        towerCount = towers;
+        projectileCount = projectiles;
+
+        if (totalFrames % SUMMARY_INTERVAL == 0) {
+            summarize();
+        }
+        if (csvWriter != null) {
+            writeCsvLine();
+        }
+    }
+
+    /**
+     * Returns a percentile of a phase over the window, as of the last refresh.
+     * Precondition: column is 0 for p50, 1 for p95, 2 for p99 or 3 for the maximum.
+     * Postcondition: Returns the time in nanoseconds, or 0 before the first refresh.
+     *
+     * @param phase The phase.
+     * @param column Which percentile to return.
+     * @return The percentile in nanoseconds.
+     */
+    public long getSummary(Phase phase, int column) {
+        return summary[phase.ordinal()][column];
+    }
+
+    /**
+     * Returns a number that changes every time the percentiles are refreshed.
+     * Precondition: None
+     * Postcondition: Returns the refresh count, so callers can cache text built from the summary.
+     *
+     * @return The summary version.
+     */
+    public int getSummaryVersion() {
+        return summaryVersion;
+    }
+
+    /**
+     * Returns the time a phase took in the last frame.
+     * Precondition: None
+     * Postcondition: Returns the time recorded between the last beginFrame and endFrame, summed over every piece of the phase.
+     *
+     * @param phase The phase.
+     * @return The time in nanoseconds.
+     */
+    public long getFrameTime(Phase phase) {
+        return frameTimes[phase.ordinal()];
+    }
+
+    /**
+     * Returns the number of enemies of the last frame.
+     * Precondition: None
+     * Postcondition: Returns the enemy count passed to endFrame.
+     *
+     * @return The number of enemies.
+     */
+    public int getEnemyCount() {
+        return enemyCount;
+    }
+
+    /**
+     * Returns the number of towers of the last frame.
+     * Precondition: None
+     * Postcondition: Returns the tower count passed to endFrame.
+     *
+     * @return The number of towers.
+     */
+    public int getTowerCount() {
+        return towerCount;
+    }
+
+    /**
+     * Returns the number of projectiles of the last frame.
+     * Precondition: None
+     * Postcondition: Returns the projectile count passed to endFrame.
+     *
+     * @return The number of projectiles.
+     */
+    public int getProjectileCount() {
+        return projectileCount;
+    }
+
+    /**
+     * Checks if frames are being written to a CSV file.
+     * Precondition: None
+     * Postcondition: Returns true while recording, false otherwise.
+     *
+     * @return true if recording, false otherwise.
+     */
+    public boolean isRecording() {
+        return csvWriter != null;
+    }
+
+    /**
+     * Starts writing every frame to a new CSV file in the local profiles folder, or stops if already recording.
+     * Precondition: None
+     * Postcondition: Recording is toggled. If the file cannot be opened, recording stays off.
+     */
+    public void toggleRecording() {
+        if (csvWriter != null) {
+            stopRecording();
+            return;
+        }
+
+        csvFile = Gdx.files.local("profiles/frames-" + System.currentTimeMillis() + ".csv");
+        try {
+            csvWriter = new BufferedWriter(csvFile.writer(false), 64 * 1024);
+        } catch (GdxRuntimeException e) {
+            System.out.println("Could not open frame profile " + csvFile.path() + ": " + e.getMessage());
+            csvFile = null;
+            return;
+        }
+        csvLine.setLength(0);
+        csvLine.append("frame");
+        for (Phase phase : PHASES) {
+            csvLine.append(',').append(phase.getLabel().toLowerCase()).append("_us");
+        }
+        csvLine.append(",enemies,towers,projectiles\n");
+        try {
+            writeCsvBuffer();
+            System.out.println("Recording frame profile to " + csvFile.path());
+        } catch (IOException e) {
+            System.out.println("Could not write frame profile: " + e.getMessage());
+            closeWriter();
+        }
+    }
+
+    /**
+     * Stops recording and closes the CSV file.
+     * Precondition: None
+     * Postcondition: The file is flushed and closed if recording, otherwise nothing happens.
+     */
+    public void stopRecording() {
+        if (csvWriter == null) {
+            return;
+        }
+        System.out.println("Frame profile saved to " + csvFile.path());
+        closeWriter();
+    }
+
+    /**
+     * Releases the CSV file.
+     * Precondition: None
+     * Postcondition: Any recording is stopped and its file closed.
+     */
+    public void dispose() {
+        stopRecording();
+    }
+
+    private void summarize() {
+        for (int p = 0; p < PHASES.length; p++) {
+            System.arraycopy(samples[p], 0, sorted, 0, frameCount);
+            Arrays.sort(sorted, 0, frameCount);
+            summary[p][0] = sorted[(frameCount - 1) * 50 / 100];
+            summary[p][1] = sorted[(frameCount - 1) * 95 / 100];
+            summary[p][2] = sorted[(frameCount - 1) * 99 / 100];
+            summary[p][3] = sorted[frameCount - 1];
+        }
+        summaryVersion++;
+    }
+
+    private void writeCsvLine() {
+        csvLine.setLength(0);
+        csvLine.append(totalFrames);
+        for (int p = 0; p < PHASES.length; p++) {
+            csvLine.append(',').append(frameTimes[p] / 1000);
+        }
+        csvLine.append(',').append(enemyCount).append(',').append(towerCount).append(',').append(projectileCount).append('\n');
+        try {
+            writeCsvBuffer();
+        } catch (IOException e) {
+            System.out.println("Could not write frame profile: " + e.getMessage());
+            closeWriter();
+        }
+    }
+
+    private void writeCsvBuffer() throws IOException {
+        int length = csvLine.length();
+        if (csvChars.length < length) {
+            csvChars = new char[length * 2];
+        }
+        csvLine.getChars(0, length, csvChars, 0);
+        csvWriter.write(csvChars, 0, length);
+    }
+
+    private void closeWriter() {
+        try {
+            csvWriter.close();
+        } catch (IOException e) {
+            System.out.println("Could not close frame profile: " + e.getMessage());
+        }
+        csvWriter = null;
+        csvFile = null;
+    }
+}
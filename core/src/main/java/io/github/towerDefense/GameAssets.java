@@ -0,0 +1,192 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Loads the images and sounds of the map screens through an AssetManager, so files are read and decoded on a background thread
+ * while the splash screen is showing and only the upload to the graphics card happens on the render thread, a few milliseconds a frame.
+ * The assets are kept for the whole run and shared by every map screen, so entering a map again loads nothing.
+ * Music is not loaded here, MusicManager streams it.
+ */
+
+package io.github.towerDefense;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+public class GameAssets {
+    //images
+    public static final String JUNGLE_BACKGROUND = "maps/jungleMap.jpg";
+    public static final String LEAVE_BUTTON = "leaveButton.png";
+    public static final String TEXT_BACKGROUND = "textBackground.png";
+    public static final String OK_BUTTON = "okButton.png";
+    public static final String[] ENEMY_IMAGES = {"enemy.jpg", "enemy2.jpg", "enemy3.jpg"};
+
+    //sounds
+    public static final String TOWER_PLACE_SOUND = "audio/towerPlace.mp3";
+    public static final String BUTTON_CLICK_SOUND = "audio/buttonClick.wav";
+    public static final String NEW_ROUND_SOUND = "audio/newRound.wav";
+    public static final String GAME_WIN_SOUND = "audio/gameWin.wav";
+    public static final String GAME_OVER_SOUND = "audio/gameOver.mp3";
+    public static final String[] ENEMY_DEATH_SOUNDS = {"audio/peteDie.mp3", "audio/nikDie.mp3", "audio/jeffDie.mp3"};
+
+    private static final String[] TEXTURES = {JUNGLE_BACKGROUND, LEAVE_BUTTON, TEXT_BACKGROUND, OK_BUTTON};
+    private static final String[] SOUNDS = {TOWER_PLACE_SOUND, BUTTON_CLICK_SOUND, NEW_ROUND_SOUND, GAME_WIN_SOUND, GAME_OVER_SOUND,
+        ENEMY_DEATH_SOUNDS[0], ENEMY_DEATH_SOUNDS[1], ENEMY_DEATH_SOUNDS[2]};
+
+    private static final int WAIT_SLICE_MILLIS = 16;
+
+    private final AssetManager manager;
+    private boolean queued;
+
+    /**
+     * Constructor for the GameAssets class. Nothing is loaded until queueAll is called.
+     */
+    public GameAssets() {
+        manager = new AssetManager();
+        manager.setErrorListener((asset, throwable) -> System.out.println("Could not load " + asset.fileName + ": " + throwable.getMessage()));
+    }
+
+    /**
+     * Queues every asset of the map screens for loading.
+     * Precondition: None
+     * Postcondition: Every existing file is queued once; later calls do nothing. When the sprite atlas has not been packed,
+     * the sprite images are queued on their own instead.
+     */
+    public void queueAll() {
+        if (queued) return;
+        queued = true;
+
+        for (String fileName : TEXTURES) {
+            queue(fileName, Texture.class);
+        }
+        if (Gdx.files.internal(SpriteRegistry.ATLAS_PATH).exists()) {
+            queue(SpriteRegistry.ATLAS_PATH, TextureAtlas.class);
+        } else {
+            for (String fileName : ENEMY_IMAGES) {
+                queue(fileName, Texture.class);
+            }
+            GameRules rules = GameRules.jungle(); //holds every tower type of the tutorial as well
+            for (int i = 0; i < rules.getTowerTypeCount(); i++) {
+                queue(rules.getTowerType(i).getTowerImage(), Texture.class);
+                queue(rules.getTowerType(i).getProjectileImage(), Texture.class);
+            }
+        }
+        for (String fileName : SOUNDS) {
+            queue(fileName, Sound.class);
+        }
+    }
+
+    private void queue(String fileName, Class<?> type) {
+        if (fileName == null || manager.contains(fileName)) {
+            return;
+        }
+        if (!Gdx.files.internal(fileName).exists()) {
+            System.out.println("Asset " + fileName + " not found, it will not be preloaded");
+            return;
+        }
+        manager.load(fileName, type);
+    }
+
+    /**
+     * Continues loading for at most a given time.
+     * Precondition: Called on the render thread.
+     * Postcondition: Decoding carries on in the background; finished assets are uploaded until the time is used up.
+     *
+     * @param millis The time the render thread may spend, in milliseconds.
+     * @return true if every queued asset has been loaded, false otherwise.
+     */
+    public boolean update(int millis) {
+        return manager.update(millis);
+    }
+
+    /**
+     * Gets how much of the queued assets has been loaded.
+     * Precondition: None
+     * Postcondition: Returns a value from 0 to 1.
+     *
+     * @return The loading progress.
+     */
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    /**
+     * Gets a loaded texture.
+     * Precondition: Called on the render thread and fileName is the path of an existing image.
+     * Postcondition: Returns the shared texture, waiting for it if it has not finished loading. The texture belongs to
+     * the assets and must not be disposed of by the caller.
+     *
+     * @param fileName The internal path of the image.
+     * @return The texture.
+     */
+    public Texture getTexture(String fileName) {
+        return get(fileName, Texture.class);
+    }
+
+    /**
+     * Gets a loaded sound.
+     * Precondition: Called on the render thread and fileName is the path of an existing sound.
+     * Postcondition: Returns the shared sound, waiting for it if it has not finished loading. The sound belongs to
+     * the assets and must not be disposed of by the caller.
+     *
+     * @param fileName The internal path of the sound.
+     * @return The sound.
+     */
+    public Sound getSound(String fileName) {
+        return get(fileName, Sound.class);
+    }
+
+    /**
+     * Gets the packed sprite atlas.
+     * Precondition: Called on the render thread.
+     * Postcondition: Returns the shared atlas, or null if it has not been packed.
+     *
+     * @return The atlas, or null.
+     */
+    public TextureAtlas getAtlas() {
+        if (!Gdx.files.internal(SpriteRegistry.ATLAS_PATH).exists()) {
+            return null;
+        }
+        return get(SpriteRegistry.ATLAS_PATH, TextureAtlas.class);
+    }
+
+    /**
+     * Checks if an image has been loaded as a texture of its own.
+     * Precondition: None
+     * Postcondition: Returns true if the texture can be taken without waiting, false otherwise.
+     *
+     * @param fileName The internal path of the image.
+     * @return true if the texture is loaded, false otherwise.
+     */
+    public boolean isTextureLoaded(String fileName) {
+        return manager.isLoaded(fileName, Texture.class);
+    }
+
+    private <T> T get(String fileName, Class<T> type) {
+        if (!manager.isLoaded(fileName, type)) { //the screen was entered before loading finished
+            if (!manager.contains(fileName)) {
+                manager.load(fileName, type);
+            }
+            while (manager.contains(fileName) && !manager.isLoaded(fileName, type)) { //an asset that fails is dropped by the manager
+                manager.update(WAIT_SLICE_MILLIS);
+            }
+            if (!manager.isLoaded(fileName, type)) {
+                throw new GdxRuntimeException("Could not load " + fileName);
+            }
+        }
+        return manager.get(fileName, type);
+    }
+
+    /**
+     * Disposes of every loaded asset.
+     * Precondition: None
+     * Postcondition: The assets are unloaded and the loading thread is stopped.
+     */
+    public void dispose() {
+        manager.dispose();
+    }
+}
@@ -0,0 +1,469 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * The numbers that make up a game mode: economy, lives, wave pacing, tower types and enemy types.
+ * The maps and any headless tooling build their GameSimulation from the same rules.
+ */
+
+package io.github.towerDefense;
+
+import java.util.Properties;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+public final class GameRules {
+    private final String name;
+    private final int maxWaves;
+    private final int startingCoins;
+    private final int startingLives;
+    private final int coinsPerKill;
+    private final float timeBetweenWaves;
+    private final int firstWaveEnemies;
+    private final int extraEnemiesPerWave;
+    private final float firstSpawnInterval;
+    private final float spawnIntervalStep;
+    private final float minSpawnInterval;
+    private final float waveGrowth;
+    private final float buildAreaBottom;
+    private final TowerType[] towerTypes;
+    private final EnemyType[] enemyTypes; //stats only, without sprites or sounds
+
+    private GameRules(String name, int maxWaves, int startingCoins, int startingLives, int coinsPerKill, float timeBetweenWaves, int firstWaveEnemies,
+            int extraEnemiesPerWave, float firstSpawnInterval, float spawnIntervalStep, float minSpawnInterval, float waveGrowth, float buildAreaBottom,
+            TowerType[] towerTypes, EnemyType[] enemyTypes) {
+        this.name = name;
+        this.maxWaves = maxWaves;
+        this.startingCoins = startingCoins;
+        this.startingLives = startingLives;
+        this.coinsPerKill = coinsPerKill;
+        this.timeBetweenWaves = timeBetweenWaves;
+        this.firstWaveEnemies = firstWaveEnemies;
+        this.extraEnemiesPerWave = extraEnemiesPerWave;
+        this.firstSpawnInterval = firstSpawnInterval;
+        this.spawnIntervalStep = spawnIntervalStep;
+        this.minSpawnInterval = minSpawnInterval;
+        this.waveGrowth = waveGrowth;
+        this.buildAreaBottom = buildAreaBottom;
+        this.towerTypes = towerTypes;
+        this.enemyTypes = enemyTypes;
+    }
+
+    /**
+     * Creates the rules of the jungle map.
+     * Precondition: None
+     * Postcondition: Returns 40 waves starting with 100 BenumCoin and 3 lives.
+     *
+     * @return The jungle map rules.
+     */
+    public static GameRules jungle() {
+        return new GameRules("jungle", 40, 100, 3, 5, 5f, 3, 2, 1.0f, 0.05f, 0.1f, 1f, 170f,
+            new TowerType[] {
+                new TowerType("TowerType1", 50, 200f, 1f, 0.3f, "benum.jpg", "compMice.png"),
+                new TowerType("TowerType2", 100, 170f, 1.5f, 0.26f, "benum2.png", "table.png"),
+                new TowerType("TowerType3", 150, 150f, 2.5f, 0.2f, "benum3.png", "school.png"),
+                new TowerType("TowerType4", 200, 160f, 2f, 0.5f, 90f, "icon.png", "compMice.png") //splash
+            },
+            //ordered by the last wave they appear in
+            new EnemyType[] {
+                new EnemyType(null, null, 3, 1, 100f, 2f, 0, 10),
+                new EnemyType(null, null, 7, 2, 120f, 1.5f, 5, 20),
+                new EnemyType(null, null, 25, 5, 140f, 1f, 15, 40)
+            });
+    }
+
+    /**
+     * Creates the rules of the tutorial.
+     * Precondition: None
+     * Postcondition: Returns 5 short waves with cheap towers, plenty of BenumCoin and lives.
+     *
+     * @return The tutorial rules.
+     */
+    public static GameRules tutorial() {
+        return new GameRules("tutorial", 5, 1000, 500, 5, 5f, 1, 2, 1.0f, 0.05f, 0.1f, 1f, 170f,
+            new TowerType[] {
+                new TowerType("TowerType1", 20, 200f, 1f, 0.3f, "benum.jpg", "compMice.png"),
+                new TowerType("TowerType2", 50, 170f, 1.5f, 0.26f, "benum2.png", "table.png"),
+                new TowerType("TowerType3", 100, 150f, 2.5f, 0.2f, "benum3.png", "school.png")
+            },
+            //enemy properties change with the wave number
+            new EnemyType[] {
+                new EnemyType(null, null, 5, 0, 100f, 2f, 0, 2),
+                new EnemyType(null, null, 10, 0, 120f, 1.5f, 5, 3),
+                new EnemyType(null, null, 15, 0, 140f, 1f, 15, 5)
+            });
+    }
+
+    /**
+     * Creates the rules of endless survival on the jungle map, which doubles as a stress test of the game.
+     * There is no last wave: every wave has 10% more enemies than the one before plus two, spawned 10% faster, and enemy health and
+     * speed keep rising with the wave number, so the game only ends when the lives run out.
+     * Precondition: None
+     * Postcondition: Returns rules without a wave cap, starting with 5000 BenumCoin and a million lives, so the waves outgrow the frame rate before the lives run out.
+     *
+     * @return The endless rules.
+     */
+    public static GameRules endless() {
+        return new GameRules("endless", 0, 5000, 1000000, 5, 3f, 3, 2, 1.0f, 0f, 0f, 1.1f, 170f,
+            new TowerType[] {
+                new TowerType("TowerType1", 50, 200f, 1f, 0.3f, "benum.jpg", "compMice.png"),
+                new TowerType("TowerType2", 100, 170f, 1.5f, 0.26f, "benum2.png", "table.png"),
+                new TowerType("TowerType3", 150, 150f, 2.5f, 0.2f, "benum3.png", "school.png"),
+                new TowerType("TowerType4", 200, 160f, 2f, 0.5f, 90f, "icon.png", "compMice.png") //splash
+            },
+            //the last type is used for every wave after 15 and keeps growing
+            new EnemyType[] {
+                new EnemyType(null, null, 3, 1, 100f, 2f, 0, 5),
+                new EnemyType(null, null, 7, 2, 120f, 1.5f, 5, 15),
+                new EnemyType(null, null, 25, 5, 140f, 1f, 15, 15)
+            });
+    }
+
+    /**
+     * Finds the preset rules with the given name.
+     * Precondition: None
+     * Postcondition: Returns new rules for "jungle", "tutorial" or "endless", or null for any other name.
+     *
+     * @param name The name of the preset.
+     * @return The rules, or null.
+     */
+    public static GameRules forName(String name) {
+        if ("jungle".equals(name)) {
+            return jungle();
+        }
+        if ("tutorial".equals(name)) {
+            return tutorial();
+        }
+        if ("endless".equals(name)) {
+            return endless();
+        }
+        return null;
+    }
+
+    /**
+     * Returns a copy of these rules with some numbers replaced, e.g. to try out a balance change without editing the presets.
+     * Keys are the names of the getters without "get" (startingCoins, maxWaves, ...), "TowerType1.cost" and likewise range, damage,
+     * cooldown and splashRadius for each tower type, and "enemy1.baseHealth" and likewise healthPerWave, baseSpeed, speedPerWave, waveOffset
+     * and lastWave for each enemy type, counting from 1.
+     * Precondition: parameters must not be null.
+     * Postcondition: Returns new rules; missing keys keep their value and values that are not numbers are reported and ignored.
+     *
+     * @param parameters The replacement values.
+     * @return The changed rules.
+     */
+    public GameRules withParameters(Properties parameters) {
+        TowerType[] towers = new TowerType[towerTypes.length];
+        for (int i = 0; i < towers.length; i++) {
+            towers[i] = towerTypes[i].withParameters(parameters, towerTypes[i].getName() + ".");
+        }
+        EnemyType[] enemies = new EnemyType[enemyTypes.length];
+        for (int i = 0; i < enemies.length; i++) {
+            enemies[i] = enemyTypes[i].withParameters(parameters, "enemy" + (i + 1) + ".");
+        }
+        return new GameRules(name,
+            intParameter(parameters, "maxWaves", maxWaves),
+            intParameter(parameters, "startingCoins", startingCoins),
+            intParameter(parameters, "startingLives", startingLives),
+            intParameter(parameters, "coinsPerKill", coinsPerKill),
+            floatParameter(parameters, "timeBetweenWaves", timeBetweenWaves),
+            intParameter(parameters, "firstWaveEnemies", firstWaveEnemies),
+            intParameter(parameters, "extraEnemiesPerWave", extraEnemiesPerWave),
+            floatParameter(parameters, "firstSpawnInterval", firstSpawnInterval),
+            floatParameter(parameters, "spawnIntervalStep", spawnIntervalStep),
+            floatParameter(parameters, "minSpawnInterval", minSpawnInterval),
+            floatParameter(parameters, "waveGrowth", waveGrowth),
+            floatParameter(parameters, "buildAreaBottom", buildAreaBottom),
+            towers, enemies);
+    }
+
+    /**
+     * Reads a whole number from a set of parameters.
+     * Precondition: parameters and key must not be null.
+     * Postcondition: Returns the value of the key, or the fallback if it is missing or not a whole number.
+     *
+     * @param parameters The parameters.
+     * @param key The key to read.
+     * @param fallback The value to use when the key cannot be read.
+     * @return The value.
+     */
+    static int intParameter(Properties parameters, String key, int fallback) {
+        String value = parameters.getProperty(key);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.out.println("Ignoring parameter " + key + ", not a whole number: " + value);
+            return fallback;
+        }
+    }
+
+    /**
+     * Reads a decimal number from a set of parameters.
+     * Precondition: parameters and key must not be null.
+     * Postcondition: Returns the value of the key, or the fallback if it is missing or not a number.
+     *
+     * @param parameters The parameters.
+     * @param key The key to read.
+     * @param fallback The value to use when the key cannot be read.
+     * @return The value.
+     */
+    static float floatParameter(Properties parameters, String key, float fallback) {
+        String value = parameters.getProperty(key);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Float.parseFloat(value.trim());
+        } catch (NumberFormatException e) {
+            System.out.println("Ignoring parameter " + key + ", not a number: " + value);
+            return fallback;
+        }
+    }
+
+    /**
+     * Creates the enemy type table with sprites and death sounds attached.
+     * Precondition: regions and deathSounds are either null or hold one entry per enemy type.
+     * Postcondition: Returns a new table in the same order as the rules' enemy types; null arrays leave the assets out.
+     *
+     * @param regions The sprite of each enemy type, or null when running without graphics.
+     * @param deathSounds The death sound of each enemy type, or null for none.
+     * @return The enemy type table.
+     */
+    public EnemyType[] createEnemyTypes(TextureRegion[] regions, Sound[] deathSounds) {
+        EnemyType[] table = new EnemyType[enemyTypes.length];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = enemyTypes[i].withAssets(regions != null ? regions[i] : null, deathSounds != null ? deathSounds[i] : null);
+        }
+        return table;
+    }
+
+    /**
+     * Finds a tower type by name.
+     * Precondition: None
+     * Postcondition: Returns the type with the given name, or null if there is none.
+     *
+     * @param name The name of the tower type.
+     * @return The tower type, or null.
+     */
+    public TowerType findTowerType(String name) {
+        for (TowerType towerType : towerTypes) {
+            if (towerType.getName().equals(name)) {
+                return towerType;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the costs of every tower type, in table order.
+     * Precondition: None
+     * Postcondition: Returns a new array of costs.
+     *
+     * @return The tower costs.
+     */
+    public int[] getTowerCosts() {
+        int[] costs = new int[towerTypes.length];
+        for (int i = 0; i < costs.length; i++) {
+            costs[i] = towerTypes[i].getCost();
+        }
+        return costs;
+    }
+
+    /**
+     * Finds the index of a tower type in the table.
+     * Precondition: None
+     * Postcondition: Returns the index of the given instance, or -1 if it is not one of these rules' tower types.
+     *
+     * @param towerType The tower type.
+     * @return The index of the tower type, or -1.
+     */
+    public int indexOfTowerType(TowerType towerType) {
+        for (int i = 0; i < towerTypes.length; i++) {
+            if (towerTypes[i] == towerType) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the tower type at an index of the table.
+     * Precondition: index is between 0 and getTowerTypeCount() - 1.
+     * Postcondition: Returns the tower type.
+     *
+     * @param index The index of the tower type.
+     * @return The tower type.
+     */
+    public TowerType getTowerType(int index) {
+        return towerTypes[index];
+    }
+
+    /**
+     * Gets the number of tower types.
+     * Precondition: None
+     * Postcondition: Returns the size of the tower type table.
+     *
+     * @return The number of tower types.
+     */
+    public int getTowerTypeCount() {
+        return towerTypes.length;
+    }
+
+    /**
+     * Gets the name of the preset these rules are based on.
+     * Precondition: None
+     * Postcondition: Returns the name, e.g. "jungle"; rules changed with withParameters keep the name of their preset.
+     *
+     * @return The name of the rules.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of waves.
+     * Precondition: None
+     * Postcondition: Returns the last wave; beating it wins the game. Returns 0 for endless rules.
+     *
+     * @return The number of waves.
+     */
+    public int getMaxWaves() {
+        return maxWaves;
+    }
+
+    /**
+     * Checks if the waves never run out.
+     * Precondition: None
+     * Postcondition: Returns true if there is no last wave to win with, false otherwise.
+     *
+     * @return true for endless rules, false otherwise.
+     */
+    public boolean isEndless() {
+        return maxWaves <= 0;
+    }
+
+    /**
+     * Gets the BenumCoin at the start of the game.
+     * Precondition: None
+     * Postcondition: Returns the starting coins.
+     *
+     * @return The starting coins.
+     */
+    public int getStartingCoins() {
+        return startingCoins;
+    }
+
+    /**
+     * Gets the lives at the start of the game.
+     * Precondition: None
+     * Postcondition: Returns the starting lives.
+     *
+     * @return The starting lives.
+     */
+    public int getStartingLives() {
+        return startingLives;
+    }
+
+    /**
+     * Gets the BenumCoin earned per defeated enemy.
+     * Precondition: None
+     * Postcondition: Returns the reward.
+     *
+     * @return The coins per kill.
+     */
+    public int getCoinsPerKill() {
+        return coinsPerKill;
+    }
+
+    /**
+     * Gets the pause before a wave starts spawning.
+     * Precondition: None
+     * Postcondition: Returns the time in seconds.
+     *
+     * @return The time between waves.
+     */
+    public float getTimeBetweenWaves() {
+        return timeBetweenWaves;
+    }
+
+    /**
+     * Gets the number of enemies in the first wave.
+     * Precondition: None
+     * Postcondition: Returns the enemy count of wave 1.
+     *
+     * @return The enemies of the first wave.
+     */
+    public int getFirstWaveEnemies() {
+        return firstWaveEnemies;
+    }
+
+    /**
+     * Gets how many more enemies each wave has than the one before.
+     * Precondition: None
+     * Postcondition: Returns the increase.
+     *
+     * @return The extra enemies per wave.
+     */
+    public int getExtraEnemiesPerWave() {
+        return extraEnemiesPerWave;
+    }
+
+    /**
+     * Gets the time between two spawns in the first wave.
+     * Precondition: None
+     * Postcondition: Returns the interval in seconds.
+     *
+     * @return The first spawn interval.
+     */
+    public float getFirstSpawnInterval() {
+        return firstSpawnInterval;
+    }
+
+    /**
+     * Gets how much shorter the spawn interval gets each wave.
+     * Precondition: None
+     * Postcondition: Returns the step in seconds.
+     *
+     * @return The spawn interval step.
+     */
+    public float getSpawnIntervalStep() {
+        return spawnIntervalStep;
+    }
+
+    /**
+     * Gets the shortest spawn interval.
+     * Precondition: None
+     * Postcondition: Returns the interval in seconds.
+     *
+     * @return The minimum spawn interval.
+     */
+    public float getMinSpawnInterval() {
+        return minSpawnInterval;
+    }
+
+    /**
+     * Gets the factor by which each wave grows on top of the fixed steps.
+     * Precondition: None
+     * Postcondition: Returns the factor; each new wave's enemy count is multiplied by it and its spawn interval divided by it.
+     * 1 keeps the growth linear.
+     *
+     * @return The wave growth factor.
+     */
+    public float getWaveGrowth() {
+        return waveGrowth;
+    }
+
+    /**
+     * Gets the height of the strip at the bottom of the screen where no tower may be placed.
+     * Precondition: None
+     * Postcondition: Returns the height of the user panel.
+     *
+     * @return The bottom of the build area.
+     */
+    public float getBuildAreaBottom() {
+        return buildAreaBottom;
+    }
+}
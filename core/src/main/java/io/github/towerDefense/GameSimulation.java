@@ -0,0 +1,864 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * The game logic of a map without any drawing: enemies, towers, projectiles, BenumCoin, lives and waves.
+ * The simulation advances in fixed ticks of 1/60 s no matter how fast frames come in, so a game plays out the same at any frame rate
+ * and can run without a graphics context. Screens feed it frame times with update and draw between the last two ticks using getAlpha.
+ * Fast-forward runs more of the same ticks per frame, never longer ones.
+ */
+
+package io.github.towerDefense;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+
+import io.github.towerDefense.map.JunglePath;
+import io.github.towerDefense.map.PathClearanceField;
+
+public class GameSimulation {
+    public static final float TICK = 1 / 60f;
+    private static final float MAX_FRAME_TIME = 0.25f; //longer frames are cut short instead of running dozens of ticks at once
+    private static final long MAX_SPEED_BUDGET_NANOS = 12000000L; //time per frame spent ticking at GameSpeed.MAX, the rest is left for drawing
+    public static final float PATH_CLEARANCE_FROM_TOWER_EDGE = 10f;
+    private static final float PATH_CLEARANCE_CELL_SIZE = 4f;
+    private static final float ENEMY_GRID_CELL_SIZE = 128f;
+
+    /**
+     * Receives the events a screen turns into sounds and messages.
+     */
+    public interface Listener {
+        /**
+         * Called when an enemy is defeated, before it is removed.
+         * Precondition: None
+         * Postcondition: The listener has reacted to the defeat.
+         *
+         * @param type The type of the defeated enemy.
+         */
+        void onEnemyKilled(EnemyType type);
+
+        /**
+         * Called when a wave has been cleared and the next one begins its countdown.
+         * Precondition: None
+         * Postcondition: The listener has reacted to the new wave; it may pause the simulation.
+         *
+         * @param wave The number of the new wave.
+         */
+        void onWaveStarted(int wave);
+    }
+
+    private final GameRules rules;
+    private final EnemyType[] enemyTypes;
+    private final SpriteRegistry sprites;
+    private Listener listener;
+    private FrameProfiler profiler;
+    private ReplayRecorder recorder;
+
+    //game state
+    private final EnemyStore enemies;
+    private final ArrayList<Towers> towers;
+    private final ArrayList<Projectile> projectiles;
+    private final ProjectilePool projectilePool;
+    private final EnemySpatialGrid enemyGrid;
+    private final IntArray splashHits; //reused by every splash impact
+    private final EnemyProgressIndex enemyProgress;
+    private final TowerPlacementManager placementManager;
+    private final TowerUpdater towerUpdater;
+    private JunglePath path;
+    private PathClearanceField pathClearance;
+    private float fieldWidth;
+    private float fieldHeight;
+
+    private int benumCoin;
+    private int lives;
+    private int kills;
+    private final int[] killsByTowerType;
+
+    //waves
+    private float waveTimer;
+    private int waveNumber;
+    private int enemiesPerWave;
+    private int enemiesSpawnedInWave;
+    private float enemySpawnIntervalInWave;
+    private float individualEnemySpawnTimer;
+
+    //time
+    private float accumulator;
+    private long tickCount;
+    private boolean paused;
+    private GameSpeed speed = GameSpeed.NORMAL;
+    private boolean won;
+    private boolean lost;
+
+    /**
+     * Constructor for the GameSimulation class.
+     *
+     * @param rules The rules of the game mode.
+     * @param enemyTypes The enemy type table built from the rules, with or without sprites and sounds.
+     * @param sprites The registry that shares tower and projectile sprites, or null when running without graphics.
+     */
+    public GameSimulation(GameRules rules, EnemyType[] enemyTypes, SpriteRegistry sprites) {
+        this.rules = rules;
+        this.enemyTypes = enemyTypes;
+        this.sprites = sprites;
+        this.profiler = new FrameProfiler();
+
+        enemies = new EnemyStore(enemyTypes, 128);
+        towers = new ArrayList<>();
+        projectiles = new ArrayList<>();
+        projectilePool = new ProjectilePool(64, 512);
+        enemyGrid = new EnemySpatialGrid(ENEMY_GRID_CELL_SIZE);
+        splashHits = new IntArray(64);
+        enemyProgress = new EnemyProgressIndex();
+        placementManager = new TowerPlacementManager(towers);
+        towerUpdater = new TowerUpdater(ForkJoinPool.commonPool(), TowerUpdater.DEFAULT_PARALLEL_THRESHOLD);
+
+        benumCoin = rules.getStartingCoins();
+        killsByTowerType = new int[rules.getTowerTypeCount()];
+        lives = rules.getStartingLives();
+
+        waveTimer = rules.getTimeBetweenWaves(); //the first wave starts right away
+        waveNumber = 1;
+        enemiesPerWave = rules.getFirstWaveEnemies();
+        enemiesSpawnedInWave = 0;
+        enemySpawnIntervalInWave = rules.getFirstSpawnInterval();
+        individualEnemySpawnTimer = 0f;
+    }
+
+    /**
+     * Sets the path and the size of the playing field, e.g. when the screen is resized.
+     * Precondition: path has at least one waypoint and the size is positive.
+     * Postcondition: Enemies follow the new path and placement checks use a clearance field built for it.
+     *
+     * @param path The path the enemies follow.
+     * @param width The width of the playing field.
+     * @param height The height of the playing field.
+     */
+    public void setField(JunglePath path, float width, float height) {
+        this.path = path;
+        this.fieldWidth = width;
+        this.fieldHeight = height;
+        pathClearance = new PathClearanceField(path, width, height, PATH_CLEARANCE_CELL_SIZE, Towers.SIZE);
+        placementManager.setPathClearance(pathClearance);
+        enemies.setPath(path);
+        if (recorder != null) {
+            recorder.recordField(width, height);
+        }
+    }
+
+    /**
+     * Advances the simulation by a frame's worth of time.
+     * Precondition: setField has been called.
+     * Postcondition: As many whole ticks as fit into the accumulated time, scaled by the game speed, are run; the remainder carries over
+     * to the next frame. At GameSpeed.MAX ticks run until the frame budget is used up. Nothing happens while paused or after the game is over.
+     *
+     * @param delta The time since the last frame in seconds.
+     */
+    public void update(float delta) {
+        if (paused || isOver()) {
+            return;
+        }
+
+        if (speed == GameSpeed.MAX) {
+            long deadline = System.nanoTime() + MAX_SPEED_BUDGET_NANOS;
+            do {
+                tick();
+            } while (!paused && !isOver() && System.nanoTime() < deadline);
+            accumulator = 0f;
+            return;
+        }
+
+        accumulator += Math.min(delta, MAX_FRAME_TIME) * speed.getMultiplier();
+        while (accumulator >= TICK && !paused && !isOver()) {
+            tick();
+            accumulator -= TICK;
+        }
+    }
+
+    /**
+     * Runs exactly one tick.
+     * Precondition: setField has been called.
+     * Postcondition: Towers fire, projectiles and enemies move by one tick, enemies that died or escaped are removed, and the wave advances.
+     * The game is lost when the lives run out and won when the last wave is cleared. The checksum of the new state is recorded if recording.
+     */
+    public void tick() {
+        step();
+        if (recorder != null) {
+            recorder.recordTick(checksum());
+        }
+    }
+
+    private void step() {
+        tickCount++;
+
+        //towers
+        profiler.start(FrameProfiler.Phase.TARGETING);
+        enemyGrid.rebuild(enemies, fieldWidth, fieldHeight);
+        enemyProgress.rebuild(enemies);
+        towerUpdater.update(towers, TICK, enemies, enemyGrid, enemyProgress, path, projectiles, projectilePool);
+        profiler.stop(FrameProfiler.Phase.TARGETING);
+
+        //projectiles
+        profiler.start(FrameProfiler.Phase.PROJECTILES);
+        Iterator<Projectile> projectileIterator = projectiles.iterator();
+        while (projectileIterator.hasNext()) {
+            Projectile projectile = projectileIterator.next();
+            projectile.update(TICK, enemies, enemyGrid, splashHits);
+
+            if (!projectile.isActive()) {
+                projectileIterator.remove();
+                projectilePool.free(projectile);
+            }
+        }
+        profiler.stop(FrameProfiler.Phase.PROJECTILES);
+
+        //enemies
+        profiler.start(FrameProfiler.Phase.ENEMIES);
+        enemies.advanceTo(tickCount);
+        for (int slot = enemies.size() - 1; slot >= 0; slot--) { //backwards, removal moves the last enemy into the slot
+            if (enemies.hasReachedEnd(slot)) {
+                lives--;
+                enemies.removeAt(slot);
+            } else if (!enemies.isAlive(slot)) {
+                benumCoin += rules.getCoinsPerKill();
+                kills++;
+                int source = enemies.getLastHitBy(slot);
+                if (source >= 0 && source < killsByTowerType.length) {
+                    killsByTowerType[source]++;
+                }
+                if (listener != null) {
+                    listener.onEnemyKilled(enemies.getType(slot));
+                }
+                enemies.removeAt(slot);
+            }
+        }
+        profiler.stop(FrameProfiler.Phase.ENEMIES);
+
+        if (lives <= 0) {
+            lost = true;
+            return;
+        }
+
+        profiler.start(FrameProfiler.Phase.WAVES);
+        updateWave();
+        profiler.stop(FrameProfiler.Phase.WAVES);
+    }
+
+    /**
+     * Checks if a tower of the given type could be placed with its bottom-left corner at a point.
+     * Precondition: setField has been called and towerType must not be null.
+     * Postcondition: Returns true if the tower is affordable, inside the build area, clear of other towers and far enough from the path.
+     *
+     * @param towerType The type of tower.
+     * @param x The x-coordinate of the tower's bottom-left corner.
+     * @param y The y-coordinate of the tower's bottom-left corner.
+     * @return true if the tower can be placed, false otherwise.
+     */
+    public boolean canPlaceTower(TowerType towerType, float x, float y) {
+        return benumCoin >= towerType.getCost()
+            && y >= rules.getBuildAreaBottom()
+            && !placementManager.isOverlapping(x, y)
+            && !placementManager.isNearPath(x + Towers.SIZE / 2f, y + Towers.SIZE / 2f, path, PATH_CLEARANCE_FROM_TOWER_EDGE);
+    }
+
+    /**
+     * Buys and places a tower if the spot is valid.
+     * Precondition: setField has been called and towerType must not be null.
+     * Postcondition: If canPlaceTower holds, the cost is paid and the tower is added; otherwise nothing changes.
+     *
+     * @param towerType The type of tower.
+     * @param x The x-coordinate of the tower's bottom-left corner.
+     * @param y The y-coordinate of the tower's bottom-left corner.
+     * @return The new tower, or null if it could not be placed.
+     */
+    public Towers placeTower(TowerType towerType, float x, float y) {
+        if (!canPlaceTower(towerType, x, y)) {
+            return null;
+        }
+        benumCoin -= towerType.getCost();
+        Towers tower = towerType.createTower(x, y, sprites);
+        tower.setTypeIndex(rules.indexOfTowerType(towerType));
+        placementManager.addTower(tower);
+        if (recorder != null) {
+            recorder.recordPlaceTower(tower.getTypeIndex(), x, y);
+        }
+        return tower;
+    }
+
+    /**
+     * Switches a tower to its next targeting mode.
+     * Precondition: tower is one of this simulation's towers.
+     * Postcondition: The tower uses the next mode and the change is recorded if recording.
+     *
+     * @param tower The tower to change.
+     */
+    public void cycleTargetingMode(Towers tower) {
+        tower.cycleTargetingMode();
+        if (recorder != null) {
+            recorder.recordTargetingMode(towers.indexOf(tower), tower.getTargetingMode());
+        }
+    }
+
+    /**
+     * Computes a hash of the game state, so two runs of the same game can be compared tick by tick.
+     * Precondition: None
+     * Postcondition: Returns a hash of the tick count, coins, lives, wave, every enemy's id, position and health, and the number of
+     * towers and projectiles. Equal states always give equal hashes.
+     *
+     * @return The checksum of the current state.
+     */
+    public int checksum() {
+        int hash = (int) tickCount;
+        hash = 31 * hash + benumCoin;
+        hash = 31 * hash + lives;
+        hash = 31 * hash + waveNumber;
+        hash = 31 * hash + towers.size();
+        hash = 31 * hash + projectiles.size();
+        for (int slot = 0; slot < enemies.size(); slot++) {
+            hash = 31 * hash + enemies.getId(slot);
+            hash = 31 * hash + Float.floatToIntBits(enemies.getX(slot));
+            hash = 31 * hash + Float.floatToIntBits(enemies.getY(slot));
+            hash = 31 * hash + enemies.getHealth(slot);
+        }
+        return hash;
+    }
+
+    /**
+     * Writes the whole game state with plain primitive fields, no reflection.
+     * Precondition: out must not be null.
+     * Postcondition: Coins, lives, kills, wave counters, every tower with its cooldown, every projectile in flight and every enemy are written
+     * in the order readSnapshot reads them. The playing field and game speed are not part of the state.
+     *
+     * @param out The snapshot being written.
+     * @throws IOException If the snapshot cannot be written.
+     */
+    public void writeSnapshot(DataOutput out) throws IOException {
+        out.writeLong(tickCount);
+        out.writeInt(benumCoin);
+        out.writeInt(lives);
+        out.writeInt(kills);
+        out.writeByte(killsByTowerType.length);
+        for (int i = 0; i < killsByTowerType.length; i++) {
+            out.writeInt(killsByTowerType[i]);
+        }
+
+        out.writeInt(waveNumber);
+        out.writeFloat(waveTimer);
+        out.writeInt(enemiesPerWave);
+        out.writeInt(enemiesSpawnedInWave);
+        out.writeFloat(enemySpawnIntervalInWave);
+        out.writeFloat(individualEnemySpawnTimer);
+        out.writeBoolean(won);
+        out.writeBoolean(lost);
+
+        out.writeShort(towers.size());
+        for (int i = 0; i < towers.size(); i++) {
+            Towers tower = towers.get(i);
+            out.writeByte(tower.getTypeIndex());
+            out.writeFloat(tower.x);
+            out.writeFloat(tower.y);
+            tower.writeState(out);
+        }
+
+        out.writeShort(projectiles.size());
+        for (int i = 0; i < projectiles.size(); i++) {
+            projectiles.get(i).writeState(out);
+        }
+
+        enemies.write(out);
+    }
+
+    /**
+     * Replaces the game state with one written by writeSnapshot.
+     * Precondition: setField has been called, in must not be null and the snapshot was written with the same rules.
+     * Postcondition: The game continues from the saved state on the current playing field; the old towers are disposed and the old projectiles
+     * go back to the pool. The whole snapshot is read before anything is replaced, so if reading fails part way the game is unchanged.
+     *
+     * @param in The snapshot being read.
+     * @throws IOException If the snapshot cannot be read, is damaged or does not fit the rules.
+     */
+    public void readSnapshot(DataInput in) throws IOException {
+        ArrayList<Towers> newTowers = new ArrayList<>();
+        ArrayList<Projectile> newProjectiles = new ArrayList<>();
+        try {
+            long newTickCount = in.readLong();
+            int newBenumCoin = in.readInt();
+            int newLives = in.readInt();
+            int newKills = in.readInt();
+            int towerTypeCount = in.readUnsignedByte();
+            if (towerTypeCount != killsByTowerType.length) {
+                throw new IOException("snapshot has " + towerTypeCount + " tower types, the rules have " + killsByTowerType.length);
+            }
+            int[] newKillsByTowerType = new int[towerTypeCount];
+            for (int i = 0; i < newKillsByTowerType.length; i++) {
+                newKillsByTowerType[i] = in.readInt();
+            }
+
+            int newWaveNumber = in.readInt();
+            float newWaveTimer = in.readFloat();
+            int newEnemiesPerWave = in.readInt();
+            int newEnemiesSpawnedInWave = in.readInt();
+            float newSpawnInterval = in.readFloat();
+            float newSpawnTimer = in.readFloat();
+            boolean newWon = in.readBoolean();
+            boolean newLost = in.readBoolean();
+
+            int towerCount = in.readUnsignedShort();
+            for (int i = 0; i < towerCount; i++) {
+                int typeIndex = in.readUnsignedByte();
+                if (typeIndex >= rules.getTowerTypeCount()) {
+                    throw new IOException("unknown tower type " + typeIndex);
+                }
+                float x = in.readFloat();
+                float y = in.readFloat();
+                Towers tower = rules.getTowerType(typeIndex).createTower(x, y, sprites);
+                newTowers.add(tower);
+                tower.setTypeIndex(typeIndex);
+                tower.readState(in);
+            }
+
+            int projectileCount = in.readUnsignedShort();
+            for (int i = 0; i < projectileCount; i++) {
+                Projectile projectile = projectilePool.obtain();
+                newProjectiles.add(projectile);
+                projectile.readState(in);
+            }
+
+            enemies.read(in); //last, it only replaces the enemies once all of them have been read
+
+            //everything has been read, swap the new state in
+            tickCount = newTickCount;
+            benumCoin = newBenumCoin;
+            lives = newLives;
+            kills = newKills;
+            System.arraycopy(newKillsByTowerType, 0, killsByTowerType, 0, killsByTowerType.length);
+            waveNumber = newWaveNumber;
+            waveTimer = newWaveTimer;
+            enemiesPerWave = newEnemiesPerWave;
+            enemiesSpawnedInWave = newEnemiesSpawnedInWave;
+            enemySpawnIntervalInWave = newSpawnInterval;
+            individualEnemySpawnTimer = newSpawnTimer;
+            won = newWon;
+            lost = newLost;
+            accumulator = 0f;
+        } catch (IOException | RuntimeException e) { //nothing has been replaced yet, give back what was made for the new state
+            for (int i = 0; i < newTowers.size(); i++) {
+                newTowers.get(i).dispose();
+            }
+            for (int i = 0; i < newProjectiles.size(); i++) {
+                projectilePool.free(newProjectiles.get(i));
+            }
+            throw e;
+        }
+
+        for (int i = towers.size() - 1; i >= 0; i--) {
+            Towers tower = towers.get(i);
+            placementManager.removeTower(tower);
+            tower.dispose();
+        }
+        for (int i = 0; i < newTowers.size(); i++) {
+            placementManager.addTower(newTowers.get(i));
+        }
+
+        for (int i = 0; i < projectiles.size(); i++) {
+            projectilePool.free(projectiles.get(i));
+        }
+        projectiles.clear();
+        for (int i = 0; i < newProjectiles.size(); i++) {
+            Projectile projectile = newProjectiles.get(i);
+            projectile.setProjectileRegion(projectileRegionOf(projectile.getSource()));
+            projectiles.add(projectile);
+        }
+        enemyProgress.clear();
+    }
+
+    /**
+     * Finds the tower under a point.
+     * Precondition: None
+     * Postcondition: Returns the first tower containing the point, or null.
+     *
+     * @param x The x-coordinate of the point.
+     * @param y The y-coordinate of the point.
+     * @return The tower, or null if there is none.
+     */
+    public Towers findTowerAt(float x, float y) {
+        for (int i = 0; i < towers.size(); i++) {
+            if (towers.get(i).contains(x, y)) {
+                return towers.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Queues every tower, projectile and enemy for the screen's render pass.
+     * Precondition: queue must not be null.
+     * Postcondition: Moving sprites are queued between their positions of the last two ticks, according to getAlpha.
+     *
+     * @param queue The sprite queue of the current frame.
+     */
+    public void queueSprites(SpriteQueue queue) {
+        float alpha = getAlpha();
+        for (int i = 0; i < towers.size(); i++) {
+            towers.get(i).queueSprite(queue);
+        }
+        for (int i = 0; i < projectiles.size(); i++) {
+            projectiles.get(i).queueSprite(queue, alpha);
+        }
+        enemies.queueSprites(queue, alpha);
+    }
+
+    /**
+     * Returns how far the current frame is between the last tick and the next one.
+     * Precondition: None
+     * Postcondition: Returns a value between 0 and 1; at GameSpeed.MAX, where ticks are not tied to real time, always 1.
+     *
+     * @return The interpolation factor for drawing.
+     */
+    public float getAlpha() {
+        if (speed == GameSpeed.MAX) {
+            return 1f;
+        }
+        return Math.min(1f, accumulator / TICK);
+    }
+
+    /**
+     * Sets the listener for game events.
+     * Precondition: None
+     * Postcondition: Events are sent to the listener; null stops them.
+     *
+     * @param listener The listener, or null.
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Sets the profiler the ticks are timed with, so a screen can show them next to its own phases.
+     * Precondition: profiler must not be null.
+     * Postcondition: Tick phases are recorded by the given profiler.
+     *
+     * @param profiler The profiler.
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Sets the recorder that player actions and tick checksums are written to.
+     * Precondition: None
+     * Postcondition: From now on the field, placements, targeting and speed changes and ticks are recorded; null stops recording.
+     * Set it before setField so the replay starts with the playing field.
+     *
+     * @param recorder The recorder, or null.
+     */
+    public void setRecorder(ReplayRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Sets the pool the towers pick their targets on once there are enough of them.
+     * Precondition: None
+     * Postcondition: Later ticks use the pool, the common pool by default; null keeps the whole tick on the calling thread.
+     * The outcome of the game is the same either way.
+     *
+     * @param pool The pool, or null.
+     */
+    public void setTowerPool(ForkJoinPool pool) {
+        towerUpdater.setPool(pool);
+    }
+
+    /**
+     * Pauses or resumes the simulation.
+     * Precondition: None
+     * Postcondition: No ticks run while paused; the time left over from the last frame is kept.
+     *
+     * @param paused true to pause, false to resume.
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * Sets how many ticks run per frame.
+     * Precondition: speed must not be null.
+     * Postcondition: Later calls to update run at the new speed. Ticks keep their length, so the outcome of the game does not change.
+     *
+     * @param speed The game speed.
+     */
+    public void setSpeed(GameSpeed speed) {
+        this.speed = speed;
+        accumulator = Math.min(accumulator, TICK); //leftover time from a faster speed is not replayed at the new one
+        if (recorder != null) {
+            recorder.recordSpeed(speed);
+        }
+    }
+
+    /**
+     * Gets the current game speed.
+     * Precondition: None
+     * Postcondition: Returns the speed set with setSpeed, NORMAL by default.
+     *
+     * @return The game speed.
+     */
+    public GameSpeed getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Checks if the simulation is paused.
+     * Precondition: None
+     * Postcondition: Returns the paused flag.
+     *
+     * @return true if paused, false otherwise.
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Checks if the last wave has been cleared.
+     * Precondition: None
+     * Postcondition: Returns true once the game is won.
+     *
+     * @return true if the game is won, false otherwise.
+     */
+    public boolean isWon() {
+        return won;
+    }
+
+    /**
+     * Checks if the lives have run out.
+     * Precondition: None
+     * Postcondition: Returns true once the game is lost.
+     *
+     * @return true if the game is lost, false otherwise.
+     */
+    public boolean isLost() {
+        return lost;
+    }
+
+    /**
+     * Checks if the game has ended either way.
+     * Precondition: None
+     * Postcondition: Returns true if the game is won or lost.
+     *
+     * @return true if the game is over, false otherwise.
+     */
+    public boolean isOver() {
+        return won || lost;
+    }
+
+    /**
+     * Gets the rules the simulation was built with.
+     * Precondition: None
+     * Postcondition: Returns the rules.
+     *
+     * @return The game rules.
+     */
+    public GameRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Gets the current amount of BenumCoin.
+     * Precondition: None
+     * Postcondition: Returns the coins.
+     *
+     * @return The current BenumCoin.
+     */
+    public int getBenumCoin() {
+        return benumCoin;
+    }
+
+    /**
+     * Gets the lives left.
+     * Precondition: None
+     * Postcondition: Returns the lives.
+     *
+     * @return The lives left.
+     */
+    public int getLives() {
+        return lives;
+    }
+
+    /**
+     * Gets the number of enemies defeated so far.
+     * Precondition: None
+     * Postcondition: Returns the kill count; enemies that reached the end are not counted.
+     *
+     * @return The number of kills.
+     */
+    public int getKills() {
+        return kills;
+    }
+
+    /**
+     * Gets the number of enemies defeated by towers of one type.
+     * Precondition: towerTypeIndex is between 0 and the rules' getTowerTypeCount() - 1.
+     * Postcondition: Returns the kills credited to the type, going by the last hit on each enemy.
+     *
+     * @param towerTypeIndex The index of the tower type in the rules.
+     * @return The number of kills by that tower type.
+     */
+    public int getKills(int towerTypeIndex) {
+        return killsByTowerType[towerTypeIndex];
+    }
+
+    /**
+     * Gets the current wave.
+     * Precondition: None
+     * Postcondition: Returns the wave number, starting at 1.
+     *
+     * @return The wave number.
+     */
+    public int getWaveNumber() {
+        return waveNumber;
+    }
+
+    /**
+     * Gets the number of ticks run so far.
+     * Precondition: None
+     * Postcondition: Returns the tick count.
+     *
+     * @return The number of ticks.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Gets the pool projectiles are taken from, e.g. to show how well it is reused.
+     * Precondition: None
+     * Postcondition: Returns the pool; its statistics cover the whole game.
+     *
+     * @return The projectile pool.
+     */
+    public ProjectilePool getProjectilePool() {
+        return projectilePool;
+    }
+
+    /**
+     * Gets the enemies on the map.
+     * Precondition: None
+     * Postcondition: Returns the enemy store.
+     *
+     * @return The enemies.
+     */
+    public EnemyStore getEnemies() {
+        return enemies;
+    }
+
+    /**
+     * Gets the towers on the map.
+     * Precondition: None
+     * Postcondition: Returns the live list; add towers through placeTower only.
+     *
+     * @return The towers.
+     */
+    public ArrayList<Towers> getTowers() {
+        return towers;
+    }
+
+    /**
+     * Gets the projectiles in flight.
+     * Precondition: None
+     * Postcondition: Returns the live list.
+     *
+     * @return The projectiles.
+     */
+    public ArrayList<Projectile> getProjectiles() {
+        return projectiles;
+    }
+
+    /**
+     * Gets the path the enemies follow.
+     * Precondition: None
+     * Postcondition: Returns the path, or null before setField.
+     *
+     * @return The path.
+     */
+    public JunglePath getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the distance field of the path used for placement checks.
+     * Precondition: None
+     * Postcondition: Returns the field, or null before setField.
+     *
+     * @return The path clearance field.
+     */
+    public PathClearanceField getPathClearance() {
+        return pathClearance;
+    }
+
+    /**
+     * Releases the sprites held by the towers.
+     * Precondition: None
+     * Postcondition: Every tower has given back its sprites to the registry.
+     */
+    public void dispose() {
+        for (int i = 0; i < towers.size(); i++) {
+            towers.get(i).dispose();
+        }
+    }
+
+    private TextureRegion projectileRegionOf(int towerTypeIndex) {
+        for (int i = 0; i < towers.size(); i++) {
+            if (towers.get(i).getTypeIndex() == towerTypeIndex) {
+                return towers.get(i).getProjectileRegion();
+            }
+        }
+        return null; //the tower that fired it is gone, the projectile still hits but is not drawn
+    }
+
+    private void updateWave() {
+        waveTimer += TICK;
+        if (waveTimer < rules.getTimeBetweenWaves()) {
+            return;
+        }
+
+        if (enemiesSpawnedInWave < enemiesPerWave) {
+            individualEnemySpawnTimer += TICK;
+            //more than one enemy a tick once the spawn interval is shorter than a tick, as in late endless waves
+            while (individualEnemySpawnTimer >= enemySpawnIntervalInWave && enemiesSpawnedInWave < enemiesPerWave) {
+                Vector2 startPoint = path.getWaypoint(0);
+                if (startPoint == null) {
+                    break;
+                }
+                int typeIndex = EnemyType.indexForWave(enemyTypes, waveNumber);
+                EnemyType type = enemyTypes[typeIndex];
+                enemies.spawn(typeIndex, type.getSpeedForWave(waveNumber), type.getHealthForWave(waveNumber));
+                enemiesSpawnedInWave++;
+                individualEnemySpawnTimer -= enemySpawnIntervalInWave; //keeps the part of the tick past the spawn time
+            }
+
+        } else if (enemies.isEmpty()) { //all enemies of the wave are defeated
+            if (rules.isEndless() || waveNumber < rules.getMaxWaves()) {
+                if (sprites != null) {
+                    sprites.resetWaveLoadCount(); //the F3 overlay counts the loads of each wave
+                }
+                waveNumber++;
+                float growth = rules.getWaveGrowth();
+                enemiesPerWave = (int) ((enemiesPerWave + rules.getExtraEnemiesPerWave()) * growth);
+                enemySpawnIntervalInWave = Math.max(rules.getMinSpawnInterval(), enemySpawnIntervalInWave - rules.getSpawnIntervalStep()) / growth;
+                enemiesSpawnedInWave = 0;
+                waveTimer = 0f;
+                if (listener != null) {
+                    listener.onWaveStarted(waveNumber);
+                }
+            } else {
+                won = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Saves and loads the full state of a running map as a small versioned binary snapshot.
+ * The state is copied into memory on the render thread, which takes well under a millisecond even late in a game, and the file
+ * is written on a background thread so quick saves and autosaves never hold up a frame.
+ */
+
+package io.github.towerDefense;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+public class GameSnapshot {
+    static final int MAGIC = 0x42544453; //"BTDS"
+    static final int VERSION = 3; //2: projectiles keep their splash radius, 3: enemies are saved by start tick and distance
+    private static final long SHUTDOWN_WAIT_MILLIS = 2000; //time dispose gives the last save to finish
+
+    private final ExecutorService writer;
+    private int lastSize = 4096; //the next snapshot is about as big as the last one
+
+    /**
+     * Constructor for the GameSnapshot class, starts the background thread files are written on.
+     */
+    public GameSnapshot() {
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Saves the state of a simulation to a file.
+     * Precondition: simulation and file must not be null.
+     * Postcondition: The state is captured before returning and written in the background; the file is replaced only once the new
+     * snapshot is complete, so an interrupted save never leaves a broken file behind.
+     *
+     * @param simulation The simulation to save.
+     * @param file The file to save to.
+     * @return true if the state was captured and queued for writing, false otherwise, e.g. after dispose.
+     */
+    public boolean save(GameSimulation simulation, final FileHandle file) {
+        if (writer.isShutdown()) {
+            return false;
+        }
+        long start = System.nanoTime();
+        final byte[] bytes;
+        try {
+            bytes = capture(simulation);
+        } catch (IOException e) {
+            System.out.println("Could not save " + file.path() + ": " + e.getMessage());
+            return false;
+        }
+        lastSize = bytes.length;
+        final long captureMicros = (System.nanoTime() - start) / 1000;
+
+        writer.execute(() -> {
+            FileHandle temporary = file.sibling(file.name() + ".tmp");
+            try {
+                temporary.writeBytes(bytes, false);
+                temporary.moveTo(file);
+                System.out.println("Saved " + file.path() + " (" + bytes.length + " bytes, captured in " + captureMicros + " us)");
+            } catch (GdxRuntimeException e) {
+                System.out.println("Could not save " + file.path() + ": " + e.getMessage());
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Loads a snapshot into a simulation.
+     * Precondition: simulation and file must not be null, and the simulation's field has been set.
+     * Postcondition: Saves still being written are finished first. If the file holds a snapshot of this version and of the
+     * simulation's rules, the simulation continues from it; otherwise the simulation is unchanged and the reason is printed.
+     *
+     * @param simulation The simulation to load into.
+     * @param file The file to load.
+     * @return true if the snapshot was loaded, false otherwise.
+     */
+    public boolean load(GameSimulation simulation, FileHandle file) {
+        finishWrites();
+        if (!file.exists()) {
+            System.out.println("No snapshot at " + file.path());
+            return false;
+        }
+        try {
+            restore(simulation, file.readBytes());
+            return true;
+        } catch (IOException | GdxRuntimeException e) {
+            System.out.println("Could not load " + file.path() + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Copies the state of a simulation into a snapshot.
+     * Precondition: simulation must not be null.
+     * Postcondition: Returns the header, naming the version and rules, followed by the simulation's state.
+     *
+     * @param simulation The simulation to capture.
+     * @return The snapshot.
+     * @throws IOException If the state cannot be written.
+     */
+    public byte[] capture(GameSimulation simulation) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(lastSize + 256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeUTF(simulation.getRules().getName());
+        simulation.writeSnapshot(out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Puts a simulation into the state of a snapshot.
+     * Precondition: simulation and snapshot must not be null.
+     * Postcondition: The simulation continues from the snapshot. The whole snapshot is read before anything changes, so a snapshot of
+     * another version or other rules, or a damaged one, leaves the simulation as it was.
+     *
+     * @param simulation The simulation to restore.
+     * @param snapshot A snapshot made by capture.
+     * @throws IOException If the snapshot is not readable, damaged, of another version or of other rules.
+     */
+    public void restore(GameSimulation simulation, byte[] snapshot) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("not a snapshot");
+        }
+        int version = in.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException("snapshot version " + version + " is not supported, expected " + VERSION);
+        }
+        String rulesName = in.readUTF();
+        if (!rulesName.equals(simulation.getRules().getName())) {
+            throw new IOException("snapshot is of " + rulesName + ", not " + simulation.getRules().getName());
+        }
+        simulation.readSnapshot(in);
+    }
+
+    /**
+     * Finishes the saves still being written and stops the writer thread.
+     * Precondition: None
+     * Postcondition: Waits a short time for pending saves; later calls to save are not written.
+     */
+    public void dispose() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                System.out.println("A snapshot was still being written when the map closed");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void finishWrites() {
+        try {
+            writer.submit(() -> { }).get(); //runs after every save queued before it
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            //an empty task cannot fail
+        }
+    }
+}
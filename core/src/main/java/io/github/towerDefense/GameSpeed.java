@@ -0,0 +1,58 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * How fast the simulation runs compared to real time. Faster speeds run more fixed ticks per frame instead of longer ones,
+ * so a game plays out exactly the same at every speed.
+ */
+
+package io.github.towerDefense;
+
+public enum GameSpeed {
+    NORMAL("1x", 1),
+    DOUBLE("2x", 2),
+    QUADRUPLE("4x", 4),
+    MAX("Max", 0); //as many ticks as fit into the frame budget
+
+    private final String label;
+    private final int multiplier;
+
+    GameSpeed(String label, int multiplier) {
+        this.label = label;
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * Returns the short name shown to the player.
+     * Precondition: None
+     * Postcondition: Returns the label of the speed.
+     *
+     * @return The label of the speed.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns how many seconds of game time pass per second of real time.
+     * Precondition: None
+     * Postcondition: Returns the multiplier, or 0 for MAX, which is not tied to real time.
+     *
+     * @return The speed multiplier.
+     */
+    public int getMultiplier() {
+        return multiplier;
+    }
+
+    /**
+     * Returns the speed that follows this one when the player cycles through speeds.
+     * Precondition: None
+     * Postcondition: Returns the next speed, wrapping back to the first.
+     *
+     * @return The next game speed.
+     */
+    public GameSpeed next() {
+        GameSpeed[] speeds = values();
+        return speeds[(ordinal() + 1) % speeds.length];
+    }
+}
@@ -0,0 +1,303 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Draws the text of a map screen: wave, coin and lives counters, tower costs, targeting modes, game speed, messages, render statistics and the frame profile.
+ * Every label keeps its own GlyphLayout, which is only rebuilt when the value behind it changes, and each text size has its own
+ * pre-scaled font, so drawing an unchanged HUD creates no strings or layouts.
+ */
+
+package io.github.towerDefense;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Align;
+
+public class Hud {
+    private static final float LARGE_SCALE = 2.5f;
+    private static final float SMALL_SCALE = 1.5f;
+    private static final float STATS_LINE_HEIGHT = 30f;
+
+    private final BitmapFont largeFont;
+    private final BitmapFont smallFont;
+    private final int maxWaves;
+
+    //counters, rebuilt when their value changes
+    private final GlyphLayout waveLayout;
+    private final GlyphLayout coinShadowLayout;
+    private final GlyphLayout coinLayout;
+    private final GlyphLayout livesLayout;
+    private int shownWave;
+    private int shownCoins;
+    private int shownLives;
+
+    //labels that never change after construction
+    private final GlyphLayout[] costLayouts;
+    private final GlyphLayout[] modeLayouts;
+    private final GlyphLayout[] speedLayouts;
+
+    //message box text
+    private final GlyphLayout messageLayout;
+    private String shownMessage;
+    private float shownMessageWidth;
+
+    //frame profiler
+    private final GlyphLayout profileLayout;
+    private final StringBuilder profileText;
+    private int shownProfileVersion;
+    private boolean shownRecording;
+
+    //render statistics
+    private final GlyphLayout[] statsLayouts;
+    private final int[] shownStats;
+
+    /**
+     * Constructor for the Hud class.
+     *
+     * @param maxWaves The number of waves of the map, shown next to the current wave, or 0 for endless rules.
+     * @param towerCosts The cost of each tower type, in the order of the tower icons.
+     */
+    public Hud(int maxWaves, int[] towerCosts) {
+        this.maxWaves = maxWaves;
+
+        largeFont = new BitmapFont();
+        largeFont.getData().setScale(LARGE_SCALE);
+        smallFont = new BitmapFont();
+        smallFont.getData().setScale(SMALL_SCALE);
+
+        waveLayout = new GlyphLayout();
+        coinShadowLayout = new GlyphLayout();
+        coinLayout = new GlyphLayout();
+        livesLayout = new GlyphLayout();
+        shownWave = Integer.MIN_VALUE;
+        shownCoins = Integer.MIN_VALUE;
+        shownLives = Integer.MIN_VALUE;
+
+        costLayouts = new GlyphLayout[towerCosts.length];
+        for (int i = 0; i < towerCosts.length; i++) {
+            costLayouts[i] = new GlyphLayout();
+            costLayouts[i].setText(smallFont, "$" + towerCosts[i], Color.GREEN, 0, Align.left, false);
+        }
+
+        TargetingMode[] modes = TargetingMode.values();
+        modeLayouts = new GlyphLayout[modes.length];
+        for (int i = 0; i < modes.length; i++) {
+            modeLayouts[i] = new GlyphLayout();
+            modeLayouts[i].setText(smallFont, modes[i].getLabel(), Color.WHITE, 0, Align.left, false);
+        }
+
+        GameSpeed[] speeds = GameSpeed.values();
+        speedLayouts = new GlyphLayout[speeds.length];
+        for (int i = 0; i < speeds.length; i++) {
+            speedLayouts[i] = new GlyphLayout();
+            speedLayouts[i].setText(largeFont, "Speed: " + speeds[i].getLabel(), Color.WHITE, 0, Align.left, false);
+        }
+
+        messageLayout = new GlyphLayout();
+        shownMessage = null;
+
+        profileLayout = new GlyphLayout();
+        profileText = new StringBuilder(512);
+        shownProfileVersion = -1;
+
+        statsLayouts = new GlyphLayout[10];
+        shownStats = new int[statsLayouts.length];
+        for (int i = 0; i < statsLayouts.length; i++) {
+            statsLayouts[i] = new GlyphLayout();
+            shownStats[i] = Integer.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Draws the wave counter at the top centre and the coin and lives counters at the top left.
+     * Precondition: The batch must have begun.
+     * Postcondition: The counters are drawn; a layout is only rebuilt if its value differs from the last call.
+     *
+     * @param batch The batch to draw with.
+     * @param screenWidth The width of the screen.
+     * @param screenHeight The height of the screen.
+     * @param wave The current wave.
+     * @param coins The current amount of BenumCoin.
+     * @param lives The lives left.
+     */
+    public void drawCounters(SpriteBatch batch, int screenWidth, int screenHeight, int wave, int coins, int lives) {
+        if (wave != shownWave) {
+            waveLayout.setText(largeFont, maxWaves > 0 ? "WAVE " + wave + "/" + maxWaves : "WAVE " + wave, Color.WHITE, 0, Align.left, false);
+            shownWave = wave;
+        }
+        if (coins != shownCoins) {
+            String coinText = "BenumCoin: " + coins;
+            coinShadowLayout.setText(largeFont, coinText, Color.BLACK, 0, Align.left, false);
+            coinLayout.setText(largeFont, coinText, Color.YELLOW, 0, Align.left, false);
+            shownCoins = coins;
+        }
+        if (lives != shownLives) {
+            livesLayout.setText(largeFont, "Lives: " + lives, Color.RED, 0, Align.left, false);
+            shownLives = lives;
+        }
+
+        largeFont.draw(batch, waveLayout, (screenWidth - waveLayout.width) / 2, screenHeight - 20);
+        largeFont.draw(batch, coinShadowLayout, 11, screenHeight - 19);
+        largeFont.draw(batch, coinLayout, 10, screenHeight - 20);
+        largeFont.draw(batch, livesLayout, 10, screenHeight - 70);
+    }
+
+    /**
+     * Draws the cost of each tower type centred above its icon.
+     * Precondition: The batch must have begun and icons holds one actor per tower cost given to the constructor.
+     * Postcondition: The costs are drawn.
+     *
+     * @param batch The batch to draw with.
+     * @param icons The draggable tower icons, in the order of the tower costs.
+     */
+    public void drawTowerCosts(SpriteBatch batch, Actor[] icons) {
+        for (int i = 0; i < costLayouts.length; i++) {
+            Actor icon = icons[i];
+            GlyphLayout layout = costLayouts[i];
+            smallFont.draw(batch, layout, icon.getX() + (icon.getWidth() - layout.width) / 2, icon.getY() + icon.getHeight() + 20);
+        }
+    }
+
+    /**
+     * Draws the targeting mode of a tower centred above it.
+     * Precondition: The batch must have begun and tower must not be null.
+     * Postcondition: The label of the tower's targeting mode is drawn.
+     *
+     * @param batch The batch to draw with.
+     * @param tower The tower whose mode is shown.
+     */
+    public void drawTargetingMode(SpriteBatch batch, Towers tower) {
+        GlyphLayout layout = modeLayouts[tower.getTargetingMode().ordinal()];
+        smallFont.draw(batch, layout, tower.x + (Towers.SIZE - layout.width) / 2, tower.y + Towers.SIZE + 20);
+    }
+
+    /**
+     * Draws the game speed centred on the actor that changes it.
+     * Precondition: The batch must have begun and speed and button must not be null.
+     * Postcondition: The label of the speed is drawn.
+     *
+     * @param batch The batch to draw with.
+     * @param speed The current game speed.
+     * @param button The actor the player clicks to change the speed.
+     */
+    public void drawSpeed(SpriteBatch batch, GameSpeed speed, Actor button) {
+        GlyphLayout layout = speedLayouts[speed.ordinal()];
+        largeFont.draw(batch, layout, button.getX() + (button.getWidth() - layout.width) / 2, button.getY() + (button.getHeight() + layout.height) / 2);
+    }
+
+    /**
+     * Draws a message wrapped and centred inside a box.
+     * Precondition: The batch must have begun and message must not be null.
+     * Postcondition: The message is drawn with its first line at y; the layout is only rebuilt if the message or width changed.
+     *
+     * @param batch The batch to draw with.
+     * @param message The text of the message.
+     * @param x The x-coordinate of the left edge of the box.
+     * @param y The y-coordinate of the top of the text.
+     * @param width The width the text is wrapped to.
+     */
+    public void drawMessage(SpriteBatch batch, String message, float x, float y, float width) {
+        if (!message.equals(shownMessage) || width != shownMessageWidth) {
+            messageLayout.setText(smallFont, message, Color.BLACK, width, Align.center, true);
+            shownMessage = message;
+            shownMessageWidth = width;
+        }
+        smallFont.draw(batch, messageLayout, x, y);
+    }
+
+    /**
+     * Draws the render statistics overlay below the lives counter.
+     * Precondition: The batch must have begun.
+     * Postcondition: The statistics are drawn; only the lines whose value changed are rebuilt.
+     *
+     * @param batch The batch to draw with.
+     * @param screenHeight The height of the screen.
+     * @param drawCalls The draw calls of the last frame.
+     * @param maxSpritesInBatch The largest number of sprites drawn in one call.
+     * @param sprites The number of world sprites drawn.
+     * @param textureSwitches The number of texture switches while drawing the world sprites.
+     * @param registry The sprite registry of the map, for the images it had to load from their own file.
+     * @param pool The projectile pool of the map, for how often it reused a projectile.
+     */
+    public void drawStats(SpriteBatch batch, int screenHeight, int drawCalls, int maxSpritesInBatch, int sprites, int textureSwitches,
+            SpriteRegistry registry, ProjectilePool pool) {
+        setStat(0, "Draw calls: ", drawCalls);
+        setStat(1, "Max sprites per call: ", maxSpritesInBatch);
+        setStat(2, "Sprites: ", sprites);
+        setStat(3, "Texture switches: ", textureSwitches);
+        setStat(4, "Texture loads this wave: ", registry.getLoadsThisWave());
+        setStat(5, "Texture loads in total: ", registry.getTotalLoads());
+        setStat(6, "Pool hits: ", pool.getHits());
+        setStat(7, "Pool misses: ", pool.getMisses());
+        setStat(8, "Projectiles in use: ", pool.getInUse());
+        setStat(9, "Projectile high-water mark: ", pool.getHighWaterMark());
+        for (int i = 0; i < statsLayouts.length; i++) {
+            smallFont.draw(batch, statsLayouts[i], 10, screenHeight - 120 - i * STATS_LINE_HEIGHT);
+        }
+    }
+
+    /**
+     * Draws the frame profiler overlay at the top right: p50, p95, p99 and max of every phase in milliseconds, and the entity counts.
+     * Precondition: The batch must have begun and profiler must not be null.
+     * Postcondition: The overlay is drawn; its layout is only rebuilt when the profiler refreshed its percentiles or started or stopped recording.
+     *
+     * @param batch The batch to draw with.
+     * @param screenWidth The width of the screen.
+     * @param screenHeight The height of the screen.
+     * @param profiler The profiler of the map.
+     */
+    public void drawProfile(SpriteBatch batch, int screenWidth, int screenHeight, FrameProfiler profiler) {
+        if (profiler.getSummaryVersion() != shownProfileVersion || profiler.isRecording() != shownRecording) {
+            profileText.setLength(0);
+            profileText.append("ms: p50 / p95 / p99 / max");
+            for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+                profileText.append('\n').append(phase.getLabel()).append(": ");
+                for (int column = 0; column < 4; column++) {
+                    if (column > 0) {
+                        profileText.append(" / ");
+                    }
+                    appendMillis(profileText, profiler.getSummary(phase, column));
+                }
+            }
+            profileText.append("\nEnemies ").append(profiler.getEnemyCount())
+                .append("  Towers ").append(profiler.getTowerCount())
+                .append("  Projectiles ").append(profiler.getProjectileCount());
+            if (profiler.isRecording()) {
+                profileText.append("\nRecording CSV (F4 to stop)");
+            }
+            profileLayout.setText(smallFont, profileText, Color.WHITE, 0, Align.left, false);
+            shownProfileVersion = profiler.getSummaryVersion();
+            shownRecording = profiler.isRecording();
+        }
+        smallFont.draw(batch, profileLayout, screenWidth - profileLayout.width - 10, screenHeight - 80);
+    }
+
+    /**
+     * Disposes of the fonts.
+     * Precondition: None
+     * Postcondition: The fonts are disposed of and the HUD can no longer draw.
+     */
+    public void dispose() {
+        largeFont.dispose();
+        smallFont.dispose();
+    }
+
+    private static void appendMillis(StringBuilder text, long nanos) {
+        long hundredths = nanos / 10000;
+        text.append(hundredths / 100).append('.');
+        if (hundredths % 100 < 10) {
+            text.append('0');
+        }
+        text.append(hundredths % 100);
+    }
+
+    private void setStat(int line, String label, int value) {
+        if (shownStats[line] != value) {
+            statsLayouts[line].setText(smallFont, label + value, Color.WHITE, 0, Align.left, false);
+            shownStats[line] = value;
+        }
+    }
+}
@@ -1,6 +1,6 @@
 /**
  * @author Sahil Sahu & Richard Pu
- * Last modified: 2025-06-02
+ * Last modified: 2026-10-17
  * This file the main core of Rise of Benum Tower Defense.
  * 
  * This game was made possible with the help of open-source libraries, resources, and the support of coding community.
@@ -10,10 +10,172 @@
 package io.github.towerDefense;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+
+import io.github.towerDefense.map.JungleMap;
 
 public class Main extends Game {
+    private final long textureBudgetBytes;
+    private GameAssets assets; //map images and sounds, loaded while the splash screen shows
+    private MusicManager music; //background music, shared by every screen
+    private EffectsMixer effects; //sound effects of the map screens
+    private TextureCache textures; //menu images, shared by path
+    private Skin skin; //menu buttons, loaded once
+
+    //one instance of each screen, made the first time it is shown; each screen builds its contents in show and frees them in hide
+    private StartScreen startScreen;
+    private SettingsScreen settingsScreen;
+    private JungleMap jungleMap;
+    private JungleMap endlessMap; //the jungle map with endless rules
+    private Tutorial tutorial;
+
+    public Main() {
+        this(TextureCache.DEFAULT_BUDGET_BYTES);
+    }
+
+    /**
+     * Constructor for the Main class.
+     *
+     * @param textureBudgetBytes The video memory, in bytes, that menu images nobody shows may keep taking up.
+     */
+    public Main(long textureBudgetBytes) {
+        this.textureBudgetBytes = textureBudgetBytes;
+    }
+
     @Override
     public void create() {
+        assets = new GameAssets();
+        music = new MusicManager();
+        effects = new EffectsMixer();
+        textures = new TextureCache(textureBudgetBytes);
         this.setScreen(new SplashScreen(this));
     }
+
+    /**
+     * Switches to the start screen.
+     * Pre-condition: create has been called.
+     * Post-condition: The current screen is hidden and the start screen is shown.
+     */
+    public void showStartScreen() {
+        if (startScreen == null) startScreen = new StartScreen(this);
+        setScreen(startScreen);
+    }
+
+    /**
+     * Switches to the settings screen.
+     * Pre-condition: create has been called.
+     * Post-condition: The current screen is hidden and the settings screen is shown.
+     */
+    public void showSettingsScreen() {
+        if (settingsScreen == null) settingsScreen = new SettingsScreen(this);
+        setScreen(settingsScreen);
+    }
+
+    /**
+     * Switches to the jungle map.
+     * Pre-condition: create has been called.
+     * Post-condition: The current screen is hidden and a new game starts on the jungle map.
+     */
+    public void showJungleMap() {
+        if (jungleMap == null) jungleMap = new JungleMap(this);
+        setScreen(jungleMap);
+    }
+
+    /**
+     * Switches to the jungle map with endless rules.
+     * Pre-condition: create has been called.
+     * Post-condition: The current screen is hidden and a new endless game starts, reporting its frame and tick times per wave.
+     */
+    public void showEndlessMap() {
+        if (endlessMap == null) endlessMap = new JungleMap(this, true);
+        setScreen(endlessMap);
+    }
+
+    /**
+     * Switches to the tutorial.
+     * Pre-condition: create has been called.
+     * Post-condition: The current screen is hidden and the tutorial starts from the beginning.
+     */
+    public void showTutorial() {
+        if (tutorial == null) tutorial = new Tutorial(this);
+        setScreen(tutorial);
+    }
+
+    /**
+     * Gets the assets shared by the map screens.
+     * Pre-condition: create has been called.
+     * Post-condition: Returns the assets, which may still be loading.
+     *
+     * @return The shared assets.
+     */
+    public GameAssets getAssets() {
+        return assets;
+    }
+
+    /**
+     * Gets the texture cache shared by the menu screens.
+     * Pre-condition: create has been called.
+     * Post-condition: Returns the cache.
+     *
+     * @return The texture cache.
+     */
+    public TextureCache getTextures() {
+        return textures;
+    }
+
+    /**
+     * Gets the skin of the menu buttons.
+     * Pre-condition: Called on the render thread.
+     * Post-condition: Returns the skin, loading it the first time.
+     *
+     * @return The shared skin.
+     */
+    public Skin getSkin() {
+        if (skin == null) skin = new Skin(Gdx.files.internal("ui/uiskin.json"));
+        return skin;
+    }
+
+    /**
+     * Gets the background music shared by every screen.
+     * Pre-condition: create has been called.
+     * Post-condition: Returns the music manager.
+     *
+     * @return The music manager.
+     */
+    public MusicManager getMusic() {
+        return music;
+    }
+
+    /**
+     * Gets the mixer sound effects are played through.
+     * Pre-condition: create has been called.
+     * Post-condition: Returns the mixer; effects asked for during a frame are played once the frame is done.
+     *
+     * @return The effects mixer.
+     */
+    public EffectsMixer getEffects() {
+        return effects;
+    }
+
+    @Override
+    public void render() {
+        super.render();
+        effects.flush();
+        music.update(Gdx.graphics.getDeltaTime());
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose(); //hides the current screen
+        for (Screen screen : new Screen[] {startScreen, settingsScreen, jungleMap, endlessMap, tutorial}) {
+            if (screen != null) screen.dispose();
+        }
+        if (skin != null) skin.dispose();
+        if (textures != null) textures.dispose();
+        if (effects != null) effects.dispose(); //before the sounds it plays are disposed of
+        if (assets != null) assets.dispose();
+        if (music != null) music.dispose();
+    }
 }
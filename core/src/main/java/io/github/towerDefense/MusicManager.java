@@ -0,0 +1,166 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Plays the background music of every screen for the whole run of the game.
+ * Tracks are streamed from their file instead of being decoded into memory as a sound, and a track that is already playing
+ * keeps playing when the next screen asks for it. A new track fades in while the old one fades out.
+ */
+
+package io.github.towerDefense;
+
+import java.util.HashMap;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+public class MusicManager {
+    public static final String START_MUSIC = "audio/startMusic.mp3";
+    public static final String MAP_MUSIC = "audio/main.mp3";
+    public static final float CROSSFADE_SECONDS = 1f;
+
+    private final HashMap<String, Music> tracks; //opened once, a streamed track only holds a small buffer
+    private Music current;
+    private String currentFile;
+    private float currentVolume; //volume the current track fades in to
+    private Music outgoing;
+    private float outgoingVolume; //volume the outgoing track fades out from
+    private float fade = 1f; //progress of the crossfade, from 0 to 1
+
+    /**
+     * Constructor for the MusicManager class. No track is opened until one is played.
+     */
+    public MusicManager() {
+        tracks = new HashMap<>();
+    }
+
+    /**
+     * Switches the background music to a track.
+     * Precondition: Called on the render thread.
+     * Postcondition: If the track is already playing only its volume changes; otherwise it fades in from the start while the track
+     * before it fades out. Nothing is heard while SettingsScreen.musicEnabled is false, and a missing file leaves the screen silent.
+     *
+     * @param fileName The internal path of the track.
+     * @param volume The volume of the track, from 0 to 1.
+     */
+    public void play(String fileName, float volume) {
+        if (fileName.equals(currentFile)) {
+            currentVolume = volume;
+            if (fade >= 1f && current != null) {
+                current.setVolume(volume);
+            }
+            return;
+        }
+
+        if (outgoing != null) { //a crossfade was still running, cut its old track
+            outgoing.stop();
+        }
+        outgoing = current;
+        outgoingVolume = current != null ? current.getVolume() : 0f;
+
+        current = open(fileName);
+        currentFile = fileName;
+        currentVolume = volume;
+        fade = 0f;
+        if (current != null) {
+            current.setLooping(true);
+            current.setVolume(0f);
+            if (SettingsScreen.musicEnabled) {
+                current.play();
+            }
+        }
+    }
+
+    private Music open(String fileName) {
+        if (tracks.containsKey(fileName)) {
+            return tracks.get(fileName);
+        }
+        Music track = null;
+        FileHandle file = Gdx.files.internal(fileName);
+        if (file.exists()) {
+            try {
+                track = Gdx.audio.newMusic(file);
+            } catch (GdxRuntimeException e) {
+                System.out.println("Could not open music " + fileName + ": " + e.getMessage());
+            }
+        } else {
+            System.out.println("Music " + fileName + " not found, playing nothing");
+        }
+        tracks.put(fileName, track); //a missing track is only reported once
+        return track;
+    }
+
+    /**
+     * Advances the crossfade.
+     * Precondition: Called once a frame on the render thread.
+     * Postcondition: The volumes of the new and old track move towards their targets; the old track is stopped when the fade ends.
+     *
+     * @param delta The time since the last frame in seconds.
+     */
+    public void update(float delta) {
+        if (fade >= 1f) return;
+
+        fade = Math.min(1f, fade + delta / CROSSFADE_SECONDS);
+        if (current != null) {
+            current.setVolume(currentVolume * fade);
+        }
+        if (outgoing != null) {
+            outgoing.setVolume(outgoingVolume * (1f - fade));
+            if (fade >= 1f) {
+                outgoing.stop();
+                outgoing = null;
+            }
+        }
+    }
+
+    /**
+     * Turns the music on or off, e.g. from the settings screen.
+     * Precondition: None
+     * Postcondition: The current track pauses or resumes where it was; a fading out track is stopped.
+     *
+     * @param enabled true to hear music, false to silence it.
+     */
+    public void setEnabled(boolean enabled) {
+        if (outgoing != null) {
+            outgoing.stop();
+            outgoing = null;
+        }
+        if (current == null) return;
+
+        if (enabled) {
+            current.setVolume(currentVolume);
+            fade = 1f;
+            current.play();
+        } else {
+            current.pause();
+        }
+    }
+
+    /**
+     * Gets the track that is playing or fading in.
+     * Precondition: None
+     * Postcondition: Returns the path of the track, or null before the first play.
+     *
+     * @return The current track.
+     */
+    public String getCurrentTrack() {
+        return currentFile;
+    }
+
+    /**
+     * Stops the music and closes every track.
+     * Precondition: None
+     * Postcondition: Every opened track is disposed of.
+     */
+    public void dispose() {
+        for (Music track : tracks.values()) {
+            if (track != null) track.dispose();
+        }
+        tracks.clear();
+        current = null;
+        outgoing = null;
+        currentFile = null;
+    }
+}
@@ -1,97 +1,146 @@
 /**
  * @author Sahil Sahu & Richard Pu
- * Last modified: 2025-06-10
+ * Last modified: 2026-10-17
  * This file is part of Rise of Benum Tower Defense.
  * Projectile class for the game, manages the behavior of projectiles fired by towers.
  */
 
 package io.github.towerDefense;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Sprite; 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Pool;
 
-public class Projectile {
+public class Projectile implements Pool.Poolable {
     private final Vector2 position;
-    private Vector2 velocity;
-    private final Enemy target;
-    private final float speed;
-    private final int damage;
+    private final Vector2 previousPosition; //position before the last update, for drawing between ticks
+    private final Vector2 velocity;
+    private final Vector2 targetCenter;
+    private int targetId;
+    private float speed;
+    private int damage;
+    private int source; //tower type index of the tower that fired, -1 if unknown
+    private float splashRadius; //radius around the impact in which every enemy is hit, 0 to hit only the target
     private boolean active; 
 
-    private Texture projectileTexture;
-    private final Sprite projectileSprite;
+    private TextureRegion projectileRegion;
+    private float rotation;
 
     public static final float SIZE = 50f; //size of the projectile
+    private static final float HIT_RADIUS = SIZE / 2f + EnemyStore.SIZE / 2f; //centre distance at which the projectile touches an enemy
 
-/**
- * Constructor for the Projectile class.
- * Pre-condition: The target must not be null, and the projectile texture file must exist.
- * Post-condition: Initializes the projectile's position, velocity, and sprite.
- * 
- * @param x The x-coordinate of the projectile's initial position.
- * @param y The y-coordinate of the projectile's initial position.
- * @param target The target enemy that the projectile will follow.
- * @param speed The speed of the projectile.
- * @param damage The damage dealt by the projectile upon impact.
- * @param textureFileName The file name of the projectile texture to be used for rendering.
- * @param batch The SpriteBatch used for rendering the projectile.
- */
-public Projectile(float x, float y, Enemy target, float speed, int damage, String textureFileName, SpriteBatch batch) {        
-        this.position = new Vector2(x, y);
-        this.target = target;
+    /**
+     * Constructor for the Projectile class, used by the ProjectilePool.
+     * Pre-condition: None
+     * Post-condition: Creates an inactive projectile that must be set up with init before use.
+     */
+    public Projectile() {
+        this.position = new Vector2();
+        this.previousPosition = new Vector2();
+        this.velocity = new Vector2();
+        this.targetCenter = new Vector2();
+        this.targetId = -1;
+        this.active = false;
+    }
+
+    /**
+     * Sets up a projectile that hits only its target.
+     * Pre-condition: The projectile was obtained from a ProjectilePool and is not in use.
+     * Post-condition: Same as the full init with a splash radius of 0.
+     * 
+     * @param x The starting x-coordinate.
+     * @param y The starting y-coordinate.
+     * @param targetId The id of the enemy to follow, or -1 for none.
+     * @param speed The speed of the projectile.
+     * @param damage The damage dealt on impact.
+     * @param projectileRegion The shared sprite of the projectile, or null when running without graphics.
+     * @param source The tower type index of the tower that fired, or -1 if unknown.
+     * @return this projectile, for chaining.
+     */
+    public Projectile init(float x, float y, int targetId, float speed, int damage, TextureRegion projectileRegion, int source) {
+        return init(x, y, targetId, speed, damage, projectileRegion, source, 0f);
+    }
+
+    /**
+     * Re-initialises the projectile so a pooled instance can be fired again.
+     * Pre-condition: The projectile was obtained from a ProjectilePool and is not in use.
+     * Post-condition: Initializes the projectile's position and sprite, and activates it if it has a target. The velocity is aimed at the target on the first update.
+     * 
+     * @param x The x-coordinate of the projectile's initial position.
+     * @param y The y-coordinate of the projectile's initial position.
+     * @param targetId The id of the target enemy in the map's EnemyStore, or -1 for none.
+     * @param speed The speed of the projectile.
+     * @param damage The damage dealt by the projectile upon impact.
+     * @param projectileRegion The shared projectile sprite from the SpriteRegistry, owned by the tower.
+     * @param source The tower type index of the tower that fired, or -1 if unknown.
+     * @param splashRadius The radius around the impact in which every enemy takes the damage, or 0 to hit only the target.
+     * @return this projectile, for chaining.
+     */
+    public Projectile init(float x, float y, int targetId, float speed, int damage, TextureRegion projectileRegion, int source, float splashRadius) {
+        this.position.set(x, y);
+        this.previousPosition.set(x, y);
+        this.targetId = targetId;
         this.speed = speed;
         this.damage = damage;
+        this.source = source;
+        this.splashRadius = splashRadius;
         this.active = true;
 
-        projectileTexture = new Texture(textureFileName);
-        projectileSprite = new Sprite(projectileTexture);
-        projectileSprite.setSize(SIZE * 2, SIZE * 2); 
-        projectileSprite.setOriginCenter(); 
-        projectileSprite.setPosition(position.x - projectileSprite.getWidth() / 2, position.y - projectileSprite.getHeight() / 2);
-
-    
+        this.projectileRegion = projectileRegion;
+        this.rotation = 0;
 
-        if (target != null) {
-            Vector2 targetCenter = new Vector2(target.x + Enemy.SIZE / 2f, target.y + Enemy.SIZE / 2f);
-            this.velocity = targetCenter.cpy().sub(position).nor().scl(speed);
-        } else {
-            this.velocity = new Vector2(0, 0); 
+        velocity.set(0, 0);
+        if (targetId < 0) {
             this.active = false; 
-            if (projectileTexture != null) {
-                projectileTexture.dispose();
-                projectileTexture = null;
-            }
+            dispose();
         }
+        return this;
     }
 
     /**
      * Updates the projectile's position and checks for collision with the target.
      * Pre-condition: The projectile must be active and the target must be alive.
-     * Post-condition: The projectile's position is updated, and if it collides with the target, the target takes damage and the projectile is deactivated.
+     * Post-condition: The projectile's position is updated, and if its path during this step comes within reach of the target, the target takes damage
+     * and the projectile is deactivated. A splash projectile damages every living enemy within its splash radius of the target instead.
+     * The hit does not depend on the size of delta.
      * 
      * @param delta The time elapsed since the last update in seconds.
+     * @param enemies The enemies on the map, used to look up the target by id.
+     * @param enemyGrid The spatial grid of enemies, rebuilt for this tick, used to find the enemies caught in a splash.
+     * @param splashHits A buffer shared by every projectile of the map, the splash query writes its results into it.
      */
-
-    public void update(float delta) {
+    public void update(float delta, EnemyStore enemies, EnemySpatialGrid enemyGrid, IntArray splashHits) {
         if (!active) return;
+        previousPosition.set(position);
 
-        if (target != null && target.isAlive()) {
-            Vector2 targetCenter = new Vector2(target.x + Enemy.SIZE / 2f, target.y + Enemy.SIZE / 2f);
+        int targetSlot = enemies.slotOf(targetId);
+        if (targetSlot >= 0 && enemies.isAlive(targetSlot)) {
+            targetCenter.set(enemies.getX(targetSlot), enemies.getY(targetSlot));
 
-            Vector2 directionToTarget = targetCenter.cpy().sub(position);
-            this.velocity = directionToTarget.nor().scl(speed);
+            velocity.set(targetCenter).sub(position).nor().scl(speed);
+            rotation = velocity.angleDeg();
 
-            position.add(velocity.x * delta, velocity.y * delta);
-
-            projectileSprite.setPosition(position.x - projectileSprite.getWidth() / 2, position.y - projectileSprite.getHeight() / 2);
-            projectileSprite.setRotation(velocity.angleDeg());
-
-            if (position.dst(targetCenter) < SIZE / 2f + Enemy.SIZE / 2f + (speed * delta * 0.5f)) {
-                target.takeDamage(damage);
+            //the projectile flies straight at the target, so the closest it gets during this step is its distance minus the step
+            float step = speed * delta;
+            float distance = position.dst(targetCenter);
+            if (distance - step < HIT_RADIUS) {
+                if (splashRadius > 0f) {
+                    enemyGrid.findInRange(enemies, targetCenter.x, targetCenter.y, splashRadius, splashHits); //includes the target
+                    for (int i = 0; i < splashHits.size; i++) {
+                        enemies.takeDamage(splashHits.get(i), damage, source);
+                    }
+                } else {
+                    enemies.takeDamage(targetSlot, damage, source);
+                }
                 active = false; 
                 dispose();
+            } else {
+                position.add(velocity.x * delta, velocity.y * delta);
             }
         } else {
             active = false;
@@ -100,15 +149,19 @@ public Projectile(float x, float y, Enemy target, float speed, int damage, Strin
     }
 
     /**
-     * Renders the projectile's sprite.
-     * Pre-condition: The projectile must be active and the projectile sprite must not be null.
-     * Post-condition: The projectile's sprite is drawn on the screen using the provided SpriteBatch.
+     * Queues the projectile's sprite for the map's render pass.
+     * Pre-condition: The queue must not be null.
+     * Post-condition: An active projectile with a sprite is queued on the projectile layer, centred between its position before and after the last update
+     * and turned towards its target.
      * 
-     * @param batch SpriteBatch used for rendering the projectile.
+     * @param queue The sprite queue of the current frame.
+     * @param alpha How far the frame is between the last tick and the next, 1 for the current position.
      */
-    public void render(SpriteBatch batch) {
-        if (!active || projectileSprite == null) return;
-        projectileSprite.draw(batch);
+    public void queueSprite(SpriteQueue queue, float alpha) {
+        if (!active) return;
+        float drawX = previousPosition.x + (position.x - previousPosition.x) * alpha;
+        float drawY = previousPosition.y + (position.y - previousPosition.y) * alpha;
+        queue.add(SpriteQueue.LAYER_PROJECTILES, projectileRegion, drawX - SIZE, drawY - SIZE, SIZE * 2, SIZE * 2, rotation);
     }
 
     /**
@@ -134,14 +187,77 @@ public Projectile(float x, float y, Enemy target, float speed, int damage, Strin
     }
 
     /**
-     * Returns the target enemy of the projectile.
+     * Writes the state of a projectile in flight.
+     * Precondition: The projectile is active and out must not be null.
+     * Postcondition: Position, target, speed, damage, source and rotation are written in the order readState reads them.
+     * 
+     * @param out the snapshot being written.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeFloat(position.x);
+        out.writeFloat(position.y);
+        out.writeInt(targetId);
+        out.writeFloat(speed);
+        out.writeInt(damage);
+        out.writeByte(source);
+        out.writeFloat(splashRadius);
+        out.writeFloat(rotation);
+    }
+
+    /**
+     * Makes an obtained projectile continue a flight written by writeState.
+     * Pre-condition: The projectile comes from the pool and in must not be null.
+     * Post-condition: The projectile is active and flies on from the saved position; it has no sprite until setProjectileRegion is called.
+     * 
+     * @param in the snapshot being read.
+     * @return this projectile, for chaining.
+     * @throws IOException if the snapshot cannot be read.
+     */
+    public Projectile readState(DataInput in) throws IOException {
+        float x = in.readFloat();
+        float y = in.readFloat();
+        int target = in.readInt();
+        float flightSpeed = in.readFloat();
+        int flightDamage = in.readInt();
+        int flightSource = in.readByte();
+        float flightSplashRadius = in.readFloat();
+        init(x, y, target, flightSpeed, flightDamage, null, flightSource, flightSplashRadius);
+        rotation = in.readFloat();
+        return this;
+    }
+
+    /**
+     * Sets the sprite the projectile is drawn with.
+     * Pre-condition: None.
+     * Post-condition: The projectile is drawn with the region, or not at all if it is null.
+     * 
+     * @param projectileRegion the sprite of the projectile.
+     */
+    public void setProjectileRegion(TextureRegion projectileRegion) {
+        this.projectileRegion = projectileRegion;
+    }
+
+    /**
+     * Returns the tower type index of the tower that fired the projectile.
      * Pre-condition: None.
-     * Post-condition: Returns the target enemy that the projectile is following.
+     * Post-condition: Returns the index, or -1 if it is unknown.
      * 
-     * @return the target enemy of the projectile.
+     * @return the source of the projectile.
      */
-    public Enemy getTarget() {
-        return target;
+    public int getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the id of the target enemy of the projectile.
+     * Pre-condition: None.
+     * Post-condition: Returns the id of the enemy that the projectile is following, or -1 if it has none.
+     * 
+     * @return the id of the target enemy of the projectile.
+     */
+    public int getTargetId() {
+        return targetId;
     }
 
     /**
@@ -156,14 +272,31 @@ public Projectile(float x, float y, Enemy target, float speed, int damage, Strin
     }
 
     /**
-     * Disposes of the projectile's resources.
+     * Drops the projectile's reference to its shared sprite.
      * Pre-condition: None
-     * Post-condition: The projectile's texture is disposed of to free up resources.
+     * Post-condition: The sprite is left untouched, since it belongs to the SpriteRegistry and is shared with other projectiles.
      */
     public void dispose() {
-        if (projectileTexture != null) {
-            projectileTexture.dispose();
-            projectileTexture = null; 
-        }
+        projectileRegion = null; 
+    }
+
+    /**
+     * Clears the projectile when it is returned to the ProjectilePool.
+     * Pre-condition: None
+     * Post-condition: The projectile is inactive and holds no references to enemies or sprites.
+     */
+    @Override
+    public void reset() {
+        targetId = -1;
+        active = false;
+        speed = 0;
+        damage = 0;
+        source = -1;
+        splashRadius = 0;
+        position.set(0, 0);
+        previousPosition.set(0, 0);
+        velocity.set(0, 0);
+        rotation = 0;
+        dispose();
     }
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Bounded pool of reusable projectiles owned by a map.
+ */
+
+package io.github.towerDefense;
+
+import com.badlogic.gdx.utils.Pool;
+
+public class ProjectilePool extends Pool<Projectile> {
+    private int hits;
+    private int misses;
+    private int inUse;
+    private int highWaterMark;
+
+    /**
+     * Constructor for the ProjectilePool class.
+     * 
+     * @param initialCapacity The number of idle projectiles the pool is sized for up front.
+     * @param max The maximum number of idle projectiles kept for reuse; extra ones are left to the garbage collector.
+     */
+    public ProjectilePool(int initialCapacity, int max) {
+        super(initialCapacity, max);
+    }
+
+    @Override
+    protected Projectile newObject() {
+        return new Projectile();
+    }
+
+    /**
+     * Takes a projectile from the pool, creating one only when no idle projectile is available.
+     * Precondition: None
+     * Postcondition: Returns an inactive projectile that must be set up with Projectile.init, and updates the statistics.
+     * 
+     * @return A projectile ready to be initialised.
+     */
+    @Override
+    public Projectile obtain() {
+        if (getFree() > 0) {
+            hits++;
+        } else {
+            misses++;
+        }
+        inUse++;
+        if (inUse > highWaterMark) {
+            highWaterMark = inUse;
+        }
+        return super.obtain();
+    }
+
+    /**
+     * Returns a projectile to the pool once it has hit or lost its target.
+     * Precondition: The projectile was obtained from this pool and is no longer in any projectile list.
+     * Postcondition: The projectile is reset and kept for reuse, unless the pool is already full.
+     * 
+     * @param projectile The projectile to return.
+     */
+    @Override
+    public void free(Projectile projectile) {
+        inUse--;
+        super.free(projectile);
+    }
+
+    /**
+     * Returns the number of obtains served by an idle projectile.
+     * Precondition: None
+     * Postcondition: Returns the hit count.
+     * 
+     * @return The number of pool hits.
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of obtains that had to create a new projectile.
+     * Precondition: None
+     * Postcondition: Returns the miss count.
+     * 
+     * @return The number of pool misses.
+     */
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of projectiles currently handed out.
+     * Precondition: None
+     * Postcondition: Returns the in-use count.
+     * 
+     * @return The number of projectiles in flight.
+     */
+    public int getInUse() {
+        return inUse;
+    }
+
+    /**
+     * Returns the highest number of projectiles that were in use at the same time.
+     * Precondition: None
+     * Postcondition: Returns the high-water mark.
+     * 
+     * @return The high-water mark of projectiles in use.
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    @Override
+    public String toString() {
+        return "hits: " + hits + ", misses: " + misses + ", in use: " + inUse + ", high-water mark: " + highWaterMark;
+    }
+}
@@ -0,0 +1,215 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Plays a replay written by ReplayRecorder back into a fresh GameSimulation, without drawing and as fast as the ticks run.
+ * After every tick the state is compared with the recorded checksum, so the first tick where the game plays out differently is found.
+ */
+
+package io.github.towerDefense;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import io.github.towerDefense.map.JungleMap;
+
+public class ReplayPlayer {
+    private final DataInputStream in;
+    private final GameRules rules;
+    private final GameSimulation simulation;
+
+    private long ticks;
+    private long firstMismatchTick = -1;
+    private int mismatches;
+    private int towersPlaced;
+    private boolean complete;
+    private long elapsedNanos;
+
+    /**
+     * Constructor for the ReplayPlayer class, reads the header of the replay.
+     *
+     * @param stream The stream the replay is read from; the player closes it when done.
+     * @throws IOException If the stream is not a replay of a known version or cannot be read.
+     */
+    public ReplayPlayer(InputStream stream) throws IOException {
+        in = new DataInputStream(new BufferedInputStream(stream, 64 * 1024));
+        if (in.readInt() != ReplayRecorder.MAGIC) {
+            throw new IOException("not a replay file");
+        }
+        int version = in.readUnsignedShort();
+        if (version != ReplayRecorder.VERSION) {
+            throw new IOException("replay version " + version + " is not supported, expected " + ReplayRecorder.VERSION);
+        }
+        String rulesName = in.readUTF();
+        rules = GameRules.forName(rulesName);
+        if (rules == null) {
+            throw new IOException("unknown rules " + rulesName);
+        }
+        simulation = new GameSimulation(rules, rules.createEnemyTypes(null, null), null);
+    }
+
+    /**
+     * Plays the whole replay.
+     * Precondition: play has not been called before.
+     * Postcondition: Every record has been applied and every tick checked; the stream is closed. A replay cut short,
+     * e.g. because the game was closed, is played up to where it ends.
+     *
+     * @throws IOException If the replay cannot be read or holds a record the player does not know.
+     */
+    public void play() throws IOException {
+        long start = System.nanoTime();
+        try {
+            while (!complete) {
+                applyRecord(in.readUnsignedByte());
+            }
+        } catch (EOFException e) {
+            //the session ended without closing the replay, possibly in the middle of a record
+        } finally {
+            elapsedNanos = System.nanoTime() - start;
+            in.close();
+        }
+    }
+
+    private void applyRecord(int record) throws IOException {
+        switch (record) {
+            case ReplayRecorder.RECORD_TICK:
+                int expected = in.readInt();
+                simulation.tick();
+                ticks++;
+                if (simulation.checksum() != expected) {
+                    if (firstMismatchTick < 0) {
+                        firstMismatchTick = ticks;
+                    }
+                    mismatches++;
+                }
+                break;
+            case ReplayRecorder.RECORD_FIELD:
+                float width = in.readFloat();
+                float height = in.readFloat();
+                simulation.setField(JungleMap.createPath(width, height), width, height);
+                break;
+            case ReplayRecorder.RECORD_PLACE_TOWER:
+                int towerTypeIndex = readIndex(rules.getTowerTypeCount(), "tower type");
+                float x = in.readFloat();
+                float y = in.readFloat();
+                if (simulation.placeTower(rules.getTowerType(towerTypeIndex), x, y) != null) {
+                    towersPlaced++;
+                }
+                break;
+            case ReplayRecorder.RECORD_TARGETING_MODE:
+                int towerIndex = in.readUnsignedShort();
+                TargetingMode mode = TargetingMode.values()[readIndex(TargetingMode.values().length, "targeting mode")];
+                if (towerIndex < simulation.getTowers().size()) {
+                    simulation.getTowers().get(towerIndex).setTargetingMode(mode);
+                }
+                break;
+            case ReplayRecorder.RECORD_SPEED:
+                simulation.setSpeed(GameSpeed.values()[readIndex(GameSpeed.values().length, "game speed")]);
+                break;
+            case ReplayRecorder.RECORD_END:
+                complete = true;
+                break;
+            default:
+                throw new IOException("unknown record " + record + " after tick " + ticks);
+        }
+    }
+
+    private int readIndex(int count, String what) throws IOException {
+        int index = in.readUnsignedByte();
+        if (index >= count) {
+            throw new IOException("unknown " + what + " " + index + " after tick " + ticks);
+        }
+        return index;
+    }
+
+    /**
+     * Gets the simulation the replay is played into, e.g. to attach a profiler before play.
+     * Precondition: None
+     * Postcondition: Returns the simulation.
+     *
+     * @return The simulation.
+     */
+    public GameSimulation getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * Gets the rules of the replayed game.
+     * Precondition: None
+     * Postcondition: Returns the rules named in the replay.
+     *
+     * @return The rules.
+     */
+    public GameRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Gets the number of ticks played.
+     * Precondition: None
+     * Postcondition: Returns the tick count.
+     *
+     * @return The number of ticks.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the first tick whose state differed from the recording.
+     * Precondition: None
+     * Postcondition: Returns the tick, counting from 1, or -1 if every tick matched.
+     *
+     * @return The first mismatching tick, or -1.
+     */
+    public long getFirstMismatchTick() {
+        return firstMismatchTick;
+    }
+
+    /**
+     * Gets the number of ticks whose state differed from the recording.
+     * Precondition: None
+     * Postcondition: Returns the mismatch count.
+     *
+     * @return The number of mismatching ticks.
+     */
+    public int getMismatches() {
+        return mismatches;
+    }
+
+    /**
+     * Gets the number of recorded towers that were placed again.
+     * Precondition: None
+     * Postcondition: Returns the count; fewer than recorded means the game went differently.
+     *
+     * @return The number of towers placed.
+     */
+    public int getTowersPlaced() {
+        return towersPlaced;
+    }
+
+    /**
+     * Checks if the replay ended with its end marker.
+     * Precondition: None
+     * Postcondition: Returns false if the file was cut short.
+     *
+     * @return true if the replay was complete, false otherwise.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Gets the time play took.
+     * Precondition: play has been called.
+     * Postcondition: Returns the time in nanoseconds.
+     *
+     * @return The playback time.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Writes everything that changes the outcome of a game to a compact binary replay: the rules, the playing field, every tower
+ * placed, every targeting mode change and speed change, and one checksum of the game state per tick. Player actions are written
+ * between the ticks they happened between, so the tick of an action is implied by the number of checksums before it.
+ * ReplayPlayer reads the file back.
+ */
+
+package io.github.towerDefense;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class ReplayRecorder {
+    static final int MAGIC = 0x42544452; //"BTDR"
+    static final int VERSION = 2; //2: enemy positions follow from path distance, older replays no longer play back the same
+
+    //record types, one byte each
+    static final int RECORD_TICK = 0; //int checksum of the state after the tick
+    static final int RECORD_FIELD = 1; //float width, float height
+    static final int RECORD_PLACE_TOWER = 2; //byte tower type index, float x, float y
+    static final int RECORD_TARGETING_MODE = 3; //short tower index, byte targeting mode
+    static final int RECORD_SPEED = 4; //byte game speed
+    static final int RECORD_END = 5;
+
+    private DataOutputStream out;
+
+    /**
+     * Constructor for the ReplayRecorder class, writes the header of the replay.
+     *
+     * @param stream The stream the replay is written to; the recorder closes it.
+     * @param rules The rules of the recorded game, saved by name.
+     * @throws IOException If the header cannot be written.
+     */
+    public ReplayRecorder(OutputStream stream, GameRules rules) throws IOException {
+        out = new DataOutputStream(new BufferedOutputStream(stream, 64 * 1024));
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeUTF(rules.getName());
+    }
+
+    /**
+     * Records the end of a tick.
+     * Precondition: None
+     * Postcondition: The checksum is written, unless recording has stopped.
+     *
+     * @param checksum The checksum of the game state after the tick.
+     */
+    public void recordTick(int checksum) {
+        if (out == null) return;
+        try {
+            out.writeByte(RECORD_TICK);
+            out.writeInt(checksum);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Records a new playing field, e.g. after the window was resized.
+     * Precondition: None
+     * Postcondition: The size is written, unless recording has stopped. The path is rebuilt from the size on playback.
+     *
+     * @param width The width of the playing field.
+     * @param height The height of the playing field.
+     */
+    public void recordField(float width, float height) {
+        if (out == null) return;
+        try {
+            out.writeByte(RECORD_FIELD);
+            out.writeFloat(width);
+            out.writeFloat(height);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Records a tower that was bought and placed.
+     * Precondition: None
+     * Postcondition: The placement is written, unless recording has stopped.
+     *
+     * @param towerTypeIndex The index of the tower type in the rules.
+     * @param x The x-coordinate of the tower's bottom-left corner.
+     * @param y The y-coordinate of the tower's bottom-left corner.
+     */
+    public void recordPlaceTower(int towerTypeIndex, float x, float y) {
+        if (out == null) return;
+        try {
+            out.writeByte(RECORD_PLACE_TOWER);
+            out.writeByte(towerTypeIndex);
+            out.writeFloat(x);
+            out.writeFloat(y);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Records a change of a tower's targeting mode.
+     * Precondition: None
+     * Postcondition: The change is written, unless recording has stopped.
+     *
+     * @param towerIndex The index of the tower in the order it was placed.
+     * @param mode The new targeting mode.
+     */
+    public void recordTargetingMode(int towerIndex, TargetingMode mode) {
+        if (out == null) return;
+        try {
+            out.writeByte(RECORD_TARGETING_MODE);
+            out.writeShort(towerIndex);
+            out.writeByte(mode.ordinal());
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Records a change of the game speed. The speed does not change the outcome, but shows how the session was played.
+     * Precondition: None
+     * Postcondition: The change is written, unless recording has stopped.
+     *
+     * @param speed The new game speed.
+     */
+    public void recordSpeed(GameSpeed speed) {
+        if (out == null) return;
+        try {
+            out.writeByte(RECORD_SPEED);
+            out.writeByte(speed.ordinal());
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Checks if the replay is still being written.
+     * Precondition: None
+     * Postcondition: Returns false after close or a write error.
+     *
+     * @return true if recording, false otherwise.
+     */
+    public boolean isRecording() {
+        return out != null;
+    }
+
+    /**
+     * Ends the replay and closes the stream.
+     * Precondition: None
+     * Postcondition: The end marker is written and the file is closed; later records are ignored.
+     */
+    public void close() {
+        if (out == null) return;
+        try {
+            out.writeByte(RECORD_END);
+            out.close();
+        } catch (IOException e) {
+            System.out.println("Could not close replay: " + e.getMessage());
+        }
+        out = null;
+    }
+
+    private void fail(IOException e) {
+        System.out.println("Could not write replay, recording stopped: " + e.getMessage());
+        try {
+            out.close();
+        } catch (IOException closeError) {
+            //already failing, the first error has been reported
+        }
+        out = null;
+    }
+}
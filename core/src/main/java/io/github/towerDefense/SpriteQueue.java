@@ -0,0 +1,162 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Collects the world sprites of a frame and submits them to the SpriteBatch sorted by layer, then by texture,
+ * so the batch only flushes when the texture really changes. Also counts what each frame cost for the debug overlay.
+ */
+
+package io.github.towerDefense;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+public class SpriteQueue {
+    //layers, drawn from lowest to highest
+    public static final int LAYER_TOWERS = 0;
+    public static final int LAYER_PROJECTILES = 1;
+    public static final int LAYER_ENEMIES = 2;
+
+    private final ObjectIntMap<Texture> textureOrder; // small number per texture, so the sort key fits in a long
+    private long[] keys; // layer, texture order and queue index packed for sorting
+    private TextureRegion[] regions;
+    private float[] geometry; // x, y, width, height, rotation per sprite
+    private int size;
+
+    private int spritesLastFrame;
+    private int textureSwitchesLastFrame;
+
+    public SpriteQueue() {
+        textureOrder = new ObjectIntMap<>();
+        keys = new long[256];
+        regions = new TextureRegion[256];
+        geometry = new float[256 * 5];
+        size = 0;
+    }
+
+    /**
+     * Queues an unrotated sprite.
+     * Precondition: layer is one of the LAYER constants.
+     * Postcondition: The sprite is drawn by the next flush; null regions are ignored.
+     *
+     * @param layer The layer the sprite is drawn on.
+     * @param region The region to draw.
+     * @param x The x-coordinate of the bottom-left corner.
+     * @param y The y-coordinate of the bottom-left corner.
+     * @param width The width on screen.
+     * @param height The height on screen.
+     */
+    public void add(int layer, TextureRegion region, float x, float y, float width, float height) {
+        add(layer, region, x, y, width, height, 0f);
+    }
+
+    /**
+     * Queues a sprite rotated around its centre.
+     * Precondition: layer is one of the LAYER constants.
+     * Postcondition: The sprite is drawn by the next flush; null regions are ignored.
+     *
+     * @param layer The layer the sprite is drawn on.
+     * @param region The region to draw.
+     * @param x The x-coordinate of the bottom-left corner before rotation.
+     * @param y The y-coordinate of the bottom-left corner before rotation.
+     * @param width The width on screen.
+     * @param height The height on screen.
+     * @param rotation The rotation in degrees, counter-clockwise.
+     */
+    public void add(int layer, TextureRegion region, float x, float y, float width, float height, float rotation) {
+        if (region == null) {
+            return;
+        }
+        if (size == keys.length) {
+            grow();
+        }
+
+        Texture texture = region.getTexture();
+        int order = textureOrder.get(texture, -1);
+        if (order < 0) {
+            order = textureOrder.size;
+            textureOrder.put(texture, order);
+        }
+
+        keys[size] = ((long) layer << 56) | ((long) order << 32) | size;
+        regions[size] = region;
+        int g = size * 5;
+        geometry[g] = x;
+        geometry[g + 1] = y;
+        geometry[g + 2] = width;
+        geometry[g + 3] = height;
+        geometry[g + 4] = rotation;
+        size++;
+    }
+
+    /**
+     * Draws every queued sprite and empties the queue.
+     * Precondition: The batch must have begun.
+     * Postcondition: Sprites are drawn by layer, grouped by texture within a layer and in queue order within a texture.
+     * The sprite and texture switch counts of this flush become the last frame's counts.
+     *
+     * @param batch The SpriteBatch to draw with.
+     */
+    public void flush(SpriteBatch batch) {
+        Arrays.sort(keys, 0, size);
+
+        int textureSwitches = 0;
+        Texture lastTexture = null;
+        for (int i = 0; i < size; i++) {
+            int index = (int) keys[i];
+            TextureRegion region = regions[index];
+            if (region.getTexture() != lastTexture) {
+                lastTexture = region.getTexture();
+                textureSwitches++;
+            }
+
+            int g = index * 5;
+            float width = geometry[g + 2];
+            float height = geometry[g + 3];
+            float rotation = geometry[g + 4];
+            if (rotation == 0f) {
+                batch.draw(region, geometry[g], geometry[g + 1], width, height);
+            } else {
+                batch.draw(region, geometry[g], geometry[g + 1], width / 2f, height / 2f, width, height, 1f, 1f, rotation);
+            }
+            regions[index] = null;
+        }
+
+        spritesLastFrame = size;
+        textureSwitchesLastFrame = textureSwitches;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of sprites drawn by the last flush.
+     * Precondition: None
+     * Postcondition: Returns the sprite count.
+     *
+     * @return The number of sprites.
+     */
+    public int getSpritesLastFrame() {
+        return spritesLastFrame;
+    }
+
+    /**
+     * Returns the number of times the texture changed during the last flush.
+     * Precondition: None
+     * Postcondition: Returns the texture switch count, including the first texture.
+     *
+     * @return The number of texture switches.
+     */
+    public int getTextureSwitchesLastFrame() {
+        return textureSwitchesLastFrame;
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        regions = Arrays.copyOf(regions, capacity);
+        geometry = Arrays.copyOf(geometry, capacity * 5);
+    }
+}
@@ -0,0 +1,206 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Shares sprite images across every enemy, tower and projectile of a map session.
+ * Sprites come from the packed atlas built by the packTextures Gradle task; images missing from it are loaded from their own file.
+ * A registry made from the preloaded GameAssets borrows their atlas and textures, so creating it loads nothing.
+ */
+
+package io.github.towerDefense;
+
+import java.util.HashMap;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+public class SpriteRegistry {
+    public static final String ATLAS_PATH = "atlas/sprites.atlas";
+
+    private final TextureAtlas atlas;
+    private final boolean ownsAtlas; //false when the atlas belongs to the preloaded assets
+    private final GameAssets assets;
+    private final HashMap<String, Texture> textures;
+    private final HashMap<String, TextureRegion> regions;
+    private final HashMap<String, Integer> referenceCounts;
+    private int loadsThisWave;
+    private int totalLoads;
+
+    public SpriteRegistry() {
+        this((String) null);
+    }
+
+    /**
+     * Constructor for the SpriteRegistry class.
+     *
+     * @param atlasPath The internal path of the packed sprite atlas, or null to load every image from its own file.
+     */
+    public SpriteRegistry(String atlasPath) {
+        textures = new HashMap<>();
+        regions = new HashMap<>();
+        referenceCounts = new HashMap<>();
+        loadsThisWave = 0;
+        totalLoads = 0;
+
+        TextureAtlas packed = null;
+        if (atlasPath != null) {
+            FileHandle atlasFile = Gdx.files.internal(atlasPath);
+            if (atlasFile.exists()) {
+                packed = new TextureAtlas(atlasFile);
+            } else {
+                System.out.println("Sprite atlas " + atlasPath + " not found, run the packTextures task. Loading sprites from their own files.");
+            }
+        }
+        atlas = packed;
+        ownsAtlas = true;
+        assets = null;
+    }
+
+    /**
+     * Constructor for the SpriteRegistry class that takes its sprites from the preloaded assets.
+     *
+     * @param assets The assets the atlas and the preloaded images are borrowed from; they stay owned by the assets.
+     */
+    public SpriteRegistry(GameAssets assets) {
+        textures = new HashMap<>();
+        regions = new HashMap<>();
+        referenceCounts = new HashMap<>();
+        loadsThisWave = 0;
+        totalLoads = 0;
+
+        atlas = assets.getAtlas();
+        ownsAtlas = false;
+        this.assets = assets;
+    }
+
+    /**
+     * Returns the shared sprite for the given image file.
+     * Precondition: fileName is either null or the path of an existing image.
+     * Postcondition: The reference count of the sprite is increased by one. The region comes from the atlas when the image was
+     * packed into it, otherwise the file is loaded only if nobody holds it yet.
+     *
+     * @param fileName The file name of the image.
+     * @return The shared sprite, or null if fileName is null or empty.
+     */
+    public TextureRegion acquire(String fileName) {
+        if (fileName == null || fileName.isEmpty()) {
+            return null;
+        }
+
+        TextureRegion region = regions.get(fileName);
+        if (region == null) {
+            if (atlas != null) {
+                region = atlas.findRegion(regionName(fileName));
+            }
+            if (region == null && assets != null && assets.isTextureLoaded(fileName)) {
+                region = new TextureRegion(assets.getTexture(fileName)); //preloaded, stays with the assets
+            }
+            if (region == null) {
+                Texture texture = new Texture(fileName);
+                textures.put(fileName, texture);
+                region = new TextureRegion(texture);
+                loadsThisWave++;
+                totalLoads++;
+            }
+            regions.put(fileName, region);
+        }
+        referenceCounts.put(fileName, referenceCounts.getOrDefault(fileName, 0) + 1);
+        return region;
+    }
+
+    /**
+     * Gives back one reference to a sprite obtained from acquire.
+     * Precondition: acquire was called for fileName at least once more than release.
+     * Postcondition: A sprite loaded from its own file is disposed of when its last reference is released; atlas regions stay until dispose.
+     *
+     * @param fileName The file name of the image.
+     */
+    public void release(String fileName) {
+        Integer count = referenceCounts.get(fileName);
+        if (count == null) {
+            return;
+        }
+
+        if (count > 1) {
+            referenceCounts.put(fileName, count - 1);
+        } else {
+            referenceCounts.remove(fileName);
+            Texture texture = textures.remove(fileName);
+            if (texture != null) {
+                regions.remove(fileName);
+                texture.dispose();
+            }
+        }
+    }
+
+    /**
+     * Checks if the sprites come from the packed atlas.
+     * Precondition: None
+     * Postcondition: Returns true if the atlas was found and loaded, false otherwise.
+     *
+     * @return true if the atlas is in use, false otherwise.
+     */
+    public boolean hasAtlas() {
+        return atlas != null;
+    }
+
+    /**
+     * Returns the number of images loaded from their own file since the last wave reset.
+     * Precondition: None
+     * Postcondition: Returns the current wave load count.
+     *
+     * @return The number of texture loads in the current wave.
+     */
+    public int getLoadsThisWave() {
+        return loadsThisWave;
+    }
+
+    /**
+     * Returns the number of images loaded from their own file during this map session.
+     * Precondition: None
+     * Postcondition: Returns the total load count.
+     *
+     * @return The total number of texture loads.
+     */
+    public int getTotalLoads() {
+        return totalLoads;
+    }
+
+    /**
+     * Starts counting texture loads for a new wave.
+     * Precondition: None
+     * Postcondition: The wave load count is reset to zero.
+     *
+     * @return The number of texture loads in the wave that just ended.
+     */
+    public int resetWaveLoadCount() {
+        int loads = loadsThisWave;
+        loadsThisWave = 0;
+        return loads;
+    }
+
+    /**
+     * Disposes of the atlas and every texture still held by the registry.
+     * Precondition: None
+     * Postcondition: All textures the registry loaded itself are disposed of and the registry is empty; borrowed assets are left alone.
+     */
+    public void dispose() {
+        for (Texture texture : textures.values()) {
+            texture.dispose();
+        }
+        textures.clear();
+        regions.clear();
+        referenceCounts.clear();
+        if (atlas != null && ownsAtlas) {
+            atlas.dispose();
+        }
+    }
+
+    private static String regionName(String fileName) {
+        int extension = fileName.lastIndexOf('.');
+        return extension > 0 ? fileName.substring(0, extension) : fileName;
+    }
+}
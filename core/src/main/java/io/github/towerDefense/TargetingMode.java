@@ -0,0 +1,45 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * The ways a tower can choose which enemy to shoot.
+ */
+
+package io.github.towerDefense;
+
+public enum TargetingMode {
+    CLOSEST("Closest"),
+    FIRST("First"),
+    LAST("Last"),
+    STRONGEST("Strong"),
+    WEAKEST("Weak");
+
+    private final String label;
+
+    TargetingMode(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the short name shown to the player.
+     * Precondition: None
+     * Postcondition: Returns the label of the mode.
+     * 
+     * @return The label of the mode.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns the mode that follows this one when the player cycles through modes.
+     * Precondition: None
+     * Postcondition: Returns the next mode, wrapping back to the first.
+     * 
+     * @return The next targeting mode.
+     */
+    public TargetingMode next() {
+        TargetingMode[] modes = values();
+        return modes[(ordinal() + 1) % modes.length];
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Shares textures by file path across every screen of the game.
+ * A texture is loaded from disk the first time it is acquired and stays in video memory after its last release, so going back to
+ * a screen takes its images from memory. Textures nobody holds are disposed of, least recently used first, once the textures
+ * in memory add up to more than the budget; textures still held are never evicted.
+ */
+
+package io.github.towerDefense;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import com.badlogic.gdx.graphics.Texture;
+
+public class TextureCache {
+    public static final long DEFAULT_BUDGET_BYTES = 128L * 1024 * 1024;
+
+    private final LinkedHashMap<String, Entry> entries; //in access order, least recently used first
+    private long budgetBytes;
+    private long residentBytes;
+    private int loads;
+
+    /**
+     * Constructor for the TextureCache class.
+     *
+     * @param budgetBytes The video memory, in bytes, that textures nobody holds may take up before they are evicted.
+     */
+    public TextureCache(long budgetBytes) {
+        entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Returns the shared texture of an image file.
+     * Precondition: Called on the render thread and fileName is the internal path of an existing image.
+     * Postcondition: The texture's reference count is increased by one; it is loaded from disk only if it is not in memory.
+     *
+     * @param fileName The internal path of the image.
+     * @return The shared texture, which must be given back with release instead of disposed of.
+     */
+    public Texture acquire(String fileName) {
+        Entry entry = entries.get(fileName);
+        if (entry != null) {
+            entry.references++;
+            return entry.texture;
+        }
+
+        Texture texture = new Texture(fileName);
+        entry = new Entry(texture, (long) texture.getWidth() * texture.getHeight() * 4); //RGBA in video memory
+        entry.references = 1;
+        entries.put(fileName, entry);
+        residentBytes += entry.bytes;
+        loads++;
+        evict(); //the new texture may push unheld ones over the budget
+        return texture;
+    }
+
+    /**
+     * Gives back one reference to a texture obtained from acquire.
+     * Precondition: acquire was called for fileName at least once more than release.
+     * Postcondition: The texture stays in memory for the next acquire unless the cache is over its budget.
+     *
+     * @param fileName The internal path of the image.
+     */
+    public void release(String fileName) {
+        Entry entry = entries.get(fileName);
+        if (entry == null || entry.references == 0) {
+            return;
+        }
+        entry.references--;
+        if (entry.references == 0) {
+            evict();
+        }
+    }
+
+    private void evict() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (residentBytes > budgetBytes && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.references > 0) continue;
+            entry.texture.dispose();
+            residentBytes -= entry.bytes;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Sets the video memory budget.
+     * Precondition: budgetBytes is not negative.
+     * Postcondition: Textures nobody holds are evicted until the cache is within the new budget, or only held textures are left.
+     *
+     * @param budgetBytes The budget in bytes; 0 keeps nothing after its last release.
+     */
+    public void setBudget(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+        evict();
+    }
+
+    /**
+     * Gets the video memory the cached textures take up.
+     * Precondition: None
+     * Postcondition: Returns the estimated size in bytes of every texture in memory, held or not.
+     *
+     * @return The resident size in bytes.
+     */
+    public long getResidentBytes() {
+        return residentBytes;
+    }
+
+    /**
+     * Gets the number of textures loaded from disk since the cache was created.
+     * Precondition: None
+     * Postcondition: Returns the load count; acquiring a texture that is in memory does not count.
+     *
+     * @return The number of loads.
+     */
+    public int getLoads() {
+        return loads;
+    }
+
+    /**
+     * Disposes of every texture in the cache.
+     * Precondition: None
+     * Postcondition: The cache is empty.
+     */
+    public void dispose() {
+        for (Entry entry : entries.values()) {
+            entry.texture.dispose();
+        }
+        entries.clear();
+        residentBytes = 0;
+    }
+
+    /**
+     * A cached texture with its size and the number of holders.
+     */
+    private static class Entry {
+        final Texture texture;
+        final long bytes;
+        int references;
+
+        Entry(Texture texture, long bytes) {
+            this.texture = texture;
+            this.bytes = bytes;
+        }
+    }
+}
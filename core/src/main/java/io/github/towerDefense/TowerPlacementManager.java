@@ -1,6 +1,6 @@
 /**
  * @author Sahil Sahu & Richard Pu
- * Last modified: 2025-06-11
+ * Last modified: 2026-10-17
  * This file is part of Rise of Benum Tower Defense.
  * Manages the placement validation of towers on the game map.
  */
@@ -11,41 +11,168 @@ import java.util.ArrayList;
 
 import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Vector2;  
+import com.badlogic.gdx.utils.IntMap;
 
 import io.github.towerDefense.map.JunglePath;
+import io.github.towerDefense.map.PathClearanceField;
 
 public class TowerPlacementManager {
     private final ArrayList<Towers> towers; 
+    private PathClearanceField pathClearance;
+
+    //occupancy grid, towers are filed under the cell holding their bottom-left corner
+    private static final float CELL_SIZE = Towers.SIZE;
+    private final IntMap<ArrayList<Towers>> towersByCell;
 
     public TowerPlacementManager(ArrayList<Towers> towers) { //, JungleMap gameMap
         this.towers = towers;
+        this.towersByCell = new IntMap<>();
+        for (Towers tower : towers) {
+            cellOf(tower.x, tower.y).add(tower);
+        }
+    }
+
+    /**
+     * Adds a tower to the map and to the occupancy grid.
+     * Precondition: The tower must not be null and must not have been added before.
+     * Postcondition: The tower is in the towers list and is seen by isOverlapping.
+     * 
+     * @param tower The tower to add.
+     */
+    public void addTower(Towers tower) {
+        towers.add(tower);
+        cellOf(tower.x, tower.y).add(tower);
+    }
+
+    /**
+     * Removes a tower from the map and from the occupancy grid.
+     * Precondition: None
+     * Postcondition: The tower is no longer in the towers list and its spot is free again.
+     * 
+     * @param tower The tower to remove.
+     * @return true if the tower was on the map, false otherwise.
+     */
+    public boolean removeTower(Towers tower) {
+        ArrayList<Towers> cell = towersByCell.get(cellKey(cellColumn(tower.x), cellRow(tower.y)));
+        if (cell != null) {
+            cell.remove(tower);
+        }
+        return towers.remove(tower);
+    }
+
+    /**
+     * Sets the precomputed distance field used by isNearPath.
+     * Precondition: None
+     * Postcondition: isNearPath answers from the field for its path, and walks the path segments otherwise.
+     * 
+     * @param pathClearance The distance field of the current path, or null to always walk the segments.
+     */
+    public void setPathClearance(PathClearanceField pathClearance) {
+        this.pathClearance = pathClearance;
     }
 
     /**
      * Checks if the new tower position overlaps with any existing towers.
      * Precondition: The new tower's coordinates must be valid within the game map.
      * Postcondition: Returns true if the new tower overlaps with any existing tower, false otherwise.
+     * Only the 3x3 cells that can hold the corner of an overlapping tower are visited.
      * 
      * @param newX The x-coordinate of the new tower.
      * @param newY The y-coordinate of the new tower.
      * @return true if the new tower overlaps with any existing tower, false otherwise.
      */
     public boolean isOverlapping(float newX, float newY) {
-        for (Towers tower : towers) {
-            if (newX < tower.x + Towers.SIZE &&  
-                newX + Towers.SIZE > tower.x &&   
-                newY < tower.y + Towers.SIZE && 
-                newY + Towers.SIZE > tower.y) {   
-                return true; 
+        int column = cellColumn(newX);
+        int row = cellRow(newY);
+        for (int r = row - 1; r <= row + 1; r++) {
+            for (int c = column - 1; c <= column + 1; c++) {
+                ArrayList<Towers> cell = towersByCell.get(cellKey(c, r));
+                if (cell == null) continue;
+
+                for (int i = 0; i < cell.size(); i++) {
+                    Towers tower = cell.get(i);
+                    if (newX < tower.x + Towers.SIZE &&  
+                        newX + Towers.SIZE > tower.x &&   
+                        newY < tower.y + Towers.SIZE && 
+                        newY + Towers.SIZE > tower.y) {   
+                        return true; 
+                    }
+                }
             }
         }
         return false; 
     }
 
+    /**
+     * Validates many candidate tower positions in one call.
+     * Precondition: x, y and valid hold at least count entries.
+     * Postcondition: valid[i] is true if a tower with its bottom-left corner at (x[i], y[i]) overlaps no tower and keeps its distance from the path.
+     * 
+     * @param x The x-coordinates of the candidate towers.
+     * @param y The y-coordinates of the candidate towers.
+     * @param count The number of candidates.
+     * @param path The path towers must keep away from.
+     * @param clearanceFromTowerEdgeToPath the minimum distance from the tower's edge to the path.
+     * @param valid Receives the result for each candidate.
+     * @return The number of valid candidates.
+     */
+    public int validatePlacements(float[] x, float[] y, int count, JunglePath path, float clearanceFromTowerEdgeToPath, boolean[] valid) {
+        int validCount = 0;
+        for (int i = 0; i < count; i++) {
+            valid[i] = !isOverlapping(x[i], y[i])
+                && !isNearPath(x[i] + Towers.SIZE / 2f, y[i] + Towers.SIZE / 2f, path, clearanceFromTowerEdgeToPath);
+            if (valid[i]) validCount++;
+        }
+        return validCount;
+    }
+
+    /**
+     * Computes which spots of a regular grid over the map can take a tower.
+     * Instead of querying every spot, each tower clears the block of spots it overlaps, so the cost grows with the number of spots plus towers.
+     * Precondition: mask holds at least columns * rows entries and step is positive.
+     * Postcondition: mask[row * columns + column] is true if a tower with its bottom-left corner at (column * step, row * step)
+     * overlaps no tower and keeps its distance from the path.
+     * 
+     * @param columns The number of spots across.
+     * @param rows The number of spots down.
+     * @param step The distance between neighbouring spots.
+     * @param path The path towers must keep away from.
+     * @param clearanceFromTowerEdgeToPath the minimum distance from the tower's edge to the path.
+     * @param mask Receives the placement mask.
+     * @return The number of valid spots.
+     */
+    public int computePlacementMask(int columns, int rows, float step, JunglePath path, float clearanceFromTowerEdgeToPath, boolean[] mask) {
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                mask[row * columns + column] = !isNearPath(column * step + Towers.SIZE / 2f, row * step + Towers.SIZE / 2f, path, clearanceFromTowerEdgeToPath);
+            }
+        }
+
+        //a spot overlaps a tower when its corner lies strictly within SIZE of the tower's corner on both axes
+        for (Towers tower : towers) {
+            int minColumn = Math.max(0, (int) Math.floor((tower.x - Towers.SIZE) / step) + 1);
+            int maxColumn = Math.min(columns - 1, (int) Math.ceil((tower.x + Towers.SIZE) / step) - 1);
+            int minRow = Math.max(0, (int) Math.floor((tower.y - Towers.SIZE) / step) + 1);
+            int maxRow = Math.min(rows - 1, (int) Math.ceil((tower.y + Towers.SIZE) / step) - 1);
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int column = minColumn; column <= maxColumn; column++) {
+                    mask[row * columns + column] = false;
+                }
+            }
+        }
+
+        int validCount = 0;
+        for (int i = 0; i < columns * rows; i++) {
+            if (mask[i]) validCount++;
+        }
+        return validCount;
+    }
+
     /**
      * Checks if the tower is near a path.
      * Precondition: The path must not be null and must have at least two waypoints.
      * Postcondition: Returns true if the tower is within the specified clearance distance from any segment of the path, false otherwise.
+     * When the path clearance field covers the point, this is a single lookup instead of a walk over every segment.
      * 
      * @param towerCenterX x-coordinate of the tower's center
      * @param towerCenterY y-coordinate of the tower's center
@@ -60,6 +187,12 @@ public class TowerPlacementManager {
 
         float effectiveMinDistanceToCenter = clearanceFromTowerEdgeToPath + (Towers.SIZE / 2f);
 
+        if (pathClearance != null && pathClearance.getPath() == path
+            && effectiveMinDistanceToCenter < pathClearance.getMaxDistance()
+            && pathClearance.contains(towerCenterX, towerCenterY)) {
+            return pathClearance.distanceAt(towerCenterX, towerCenterY) < effectiveMinDistanceToCenter;
+        }
+
         Vector2 towerPos = new Vector2(towerCenterX, towerCenterY);
 
         for (int i = 0; i < path.getNumWaypoints() - 1; i++) {
@@ -77,4 +210,26 @@ public class TowerPlacementManager {
         }
         return false; 
     }
+
+    private ArrayList<Towers> cellOf(float x, float y) {
+        int key = cellKey(cellColumn(x), cellRow(y));
+        ArrayList<Towers> cell = towersByCell.get(key);
+        if (cell == null) {
+            cell = new ArrayList<>();
+            towersByCell.put(key, cell);
+        }
+        return cell;
+    }
+
+    private static int cellColumn(float x) {
+        return (int) Math.floor(x / CELL_SIZE);
+    }
+
+    private static int cellRow(float y) {
+        return (int) Math.floor(y / CELL_SIZE);
+    }
+
+    private static int cellKey(int column, int row) {
+        return (row << 16) ^ (column & 0xFFFF);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,158 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Immutable stats and images shared by every tower of the same kind.
+ */
+
+package io.github.towerDefense;
+
+import java.util.Properties;
+
+public final class TowerType {
+    private final String name;
+    private final int cost;
+    private final float range;
+    private final float damage;
+    private final float cooldown;
+    private final float splashRadius;
+    private final String towerImage;
+    private final String projectileImage;
+
+    /**
+     * Constructor for the TowerType class.
+     *
+     * @param name The name used to tell tower types apart, e.g. in drag and drop payloads.
+     * @param cost The BenumCoin needed to place a tower.
+     * @param range The attack range.
+     * @param damage The damage per projectile.
+     * @param cooldown The time between attacks in seconds.
+     * @param towerImage The file name of the tower image.
+     * @param projectileImage The file name of the projectile image.
+     */
+    public TowerType(String name, int cost, float range, float damage, float cooldown, String towerImage, String projectileImage) {
+        this(name, cost, range, damage, cooldown, 0f, towerImage, projectileImage);
+    }
+
+    /**
+     * Constructor for a tower type whose projectiles hit every enemy around the impact.
+     *
+     * @param name The name used to tell tower types apart, e.g. in drag and drop payloads.
+     * @param cost The BenumCoin needed to place a tower.
+     * @param range The attack range.
+     * @param damage The damage per projectile to each enemy hit.
+     * @param cooldown The time between attacks in seconds.
+     * @param splashRadius The radius around the impact in which every enemy is hit, or 0 to hit only the target.
+     * @param towerImage The file name of the tower image.
+     * @param projectileImage The file name of the projectile image.
+     */
+    public TowerType(String name, int cost, float range, float damage, float cooldown, float splashRadius, String towerImage, String projectileImage) {
+        this.name = name;
+        this.cost = cost;
+        this.range = range;
+        this.damage = damage;
+        this.cooldown = cooldown;
+        this.splashRadius = splashRadius;
+        this.towerImage = towerImage;
+        this.projectileImage = projectileImage;
+    }
+
+    /**
+     * Creates a tower of this type.
+     * Precondition: None
+     * Postcondition: Returns a new tower with its bottom-left corner at the given point. The caller pays for it.
+     *
+     * @param x The x-coordinate of the tower.
+     * @param y The y-coordinate of the tower.
+     * @param sprites The registry that shares tower and projectile sprites, or null when running without graphics.
+     * @return The new tower.
+     */
+    public Towers createTower(float x, float y, SpriteRegistry sprites) {
+        return new Towers(x, y, range, damage, cooldown, splashRadius, projectileImage, towerImage, sprites);
+    }
+
+    /**
+     * Returns a copy of this type with some stats replaced.
+     * Precondition: parameters and prefix must not be null.
+     * Postcondition: Returns a new type reading prefix + "cost", "range", "damage", "cooldown" and "splashRadius"; missing keys keep their value.
+     *
+     * @param parameters The replacement values.
+     * @param prefix The start of this type's keys, e.g. "TowerType1.".
+     * @return The changed tower type.
+     */
+    TowerType withParameters(Properties parameters, String prefix) {
+        return new TowerType(name,
+            GameRules.intParameter(parameters, prefix + "cost", cost),
+            GameRules.floatParameter(parameters, prefix + "range", range),
+            GameRules.floatParameter(parameters, prefix + "damage", damage),
+            GameRules.floatParameter(parameters, prefix + "cooldown", cooldown),
+            GameRules.floatParameter(parameters, prefix + "splashRadius", splashRadius),
+            towerImage, projectileImage);
+    }
+
+    /**
+     * Gets the name of the tower type.
+     * Precondition: None
+     * Postcondition: Returns the name.
+     *
+     * @return The name of the tower type.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the cost of a tower of this type.
+     * Precondition: None
+     * Postcondition: Returns the cost in BenumCoin.
+     *
+     * @return The cost.
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Gets the attack range of a tower of this type.
+     * Precondition: None
+     * Postcondition: Returns the range.
+     *
+     * @return The attack range.
+     */
+    public float getRange() {
+        return range;
+    }
+
+    /**
+     * Gets the splash radius of a tower of this type.
+     * Precondition: None
+     * Postcondition: Returns the radius, or 0 if its projectiles hit only their target.
+     *
+     * @return The splash radius.
+     */
+    public float getSplashRadius() {
+        return splashRadius;
+    }
+
+    /**
+     * Gets the file name of the tower image.
+     * Precondition: None
+     * Postcondition: Returns the file name.
+     *
+     * @return The file name of the tower image.
+     */
+    public String getTowerImage() {
+        return towerImage;
+    }
+
+    /**
+     * Gets the file name of the projectile image.
+     * Precondition: None
+     * Postcondition: Returns the file name.
+     *
+     * @return The file name of the projectile image.
+     */
+    public String getProjectileImage() {
+        return projectileImage;
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Runs the tower step of a tick in two phases. First every tower picks its target and decides whether to shoot, which only reads the
+ * enemies; with many towers this phase is split across a ForkJoinPool. Then the shots are fired one tower after another in map order,
+ * so the projectiles, and with them the whole game, come out exactly the same as when every tower is updated on its own.
+ */
+
+package io.github.towerDefense;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import io.github.towerDefense.map.JunglePath;
+
+public class TowerUpdater {
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 64; //below this many towers the hand-off to other threads costs more than it saves
+    private static final int TOWERS_PER_TASK = 16; //smallest slice of towers one task works through
+
+    private ForkJoinPool pool;
+    private int parallelThreshold;
+
+    /**
+     * Constructor for the TowerUpdater class.
+     *
+     * @param pool The pool the target phase is split across, or null to always update the towers on the calling thread.
+     * @param parallelThreshold The number of towers from which the pool is used.
+     */
+    public TowerUpdater(ForkJoinPool pool, int parallelThreshold) {
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Updates every tower by one tick.
+     * Precondition: The grid and index have been rebuilt for this tick and nothing else changes the enemies during the call.
+     * Postcondition: Every tower has advanced its cooldown and target, and the projectiles fired are added in tower order.
+     *
+     * @param towers The towers of the map.
+     * @param delta The length of the tick.
+     * @param enemies The enemies on the map.
+     * @param enemyGrid The spatial grid of enemies.
+     * @param enemyProgress The enemies ordered by path progress.
+     * @param path The path the enemies follow.
+     * @param projectiles The list new projectiles are added to.
+     * @param projectilePool The pool new projectiles are drawn from.
+     */
+    public void update(ArrayList<Towers> towers, float delta, EnemyStore enemies, EnemySpatialGrid enemyGrid, EnemyProgressIndex enemyProgress,
+            JunglePath path, ArrayList<Projectile> projectiles, ProjectilePool projectilePool) {
+        if (isParallel(towers.size())) {
+            pool.invoke(new SelectTargets(towers, delta, enemies, enemyGrid, enemyProgress, path, 0, towers.size()));
+        } else {
+            for (int i = 0; i < towers.size(); i++) {
+                towers.get(i).selectTarget(delta, enemies, enemyGrid, enemyProgress, path);
+            }
+        }
+
+        for (int i = 0; i < towers.size(); i++) {
+            towers.get(i).fire(projectiles, projectilePool);
+        }
+    }
+
+    /**
+     * Checks if a number of towers is updated in parallel.
+     * Precondition: None
+     * Postcondition: Returns true if there is a pool with more than one thread and at least the threshold of towers.
+     *
+     * @param towerCount The number of towers.
+     * @return true if the target phase is split across the pool, false otherwise.
+     */
+    public boolean isParallel(int towerCount) {
+        return pool != null && pool.getParallelism() > 1 && towerCount >= parallelThreshold;
+    }
+
+    /**
+     * Sets the pool the target phase is split across.
+     * Precondition: None
+     * Postcondition: Later updates use the pool; null updates every tower on the calling thread, e.g. when several games already run side by side.
+     *
+     * @param pool The pool, or null.
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Sets the number of towers from which the pool is used.
+     * Precondition: parallelThreshold is positive.
+     * Postcondition: Later updates go parallel from that many towers.
+     *
+     * @param parallelThreshold The tower count threshold.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Runs the target phase for a range of towers, halving the range until it is small enough to run directly.
+     * The tick's state is handed to every task, so the updater keeps no reference to it once the tick is done.
+     */
+    private static class SelectTargets extends RecursiveAction {
+        private final ArrayList<Towers> towers;
+        private final float delta;
+        private final EnemyStore enemies;
+        private final EnemySpatialGrid enemyGrid;
+        private final EnemyProgressIndex enemyProgress;
+        private final JunglePath path;
+        private final int from;
+        private final int to;
+
+        SelectTargets(ArrayList<Towers> towers, float delta, EnemyStore enemies, EnemySpatialGrid enemyGrid, EnemyProgressIndex enemyProgress,
+                JunglePath path, int from, int to) {
+            this.towers = towers;
+            this.delta = delta;
+            this.enemies = enemies;
+            this.enemyGrid = enemyGrid;
+            this.enemyProgress = enemyProgress;
+            this.path = path;
+            this.from = from;
+            this.to = to;
+        }
+
+        private SelectTargets half(int halfFrom, int halfTo) {
+            return new SelectTargets(towers, delta, enemies, enemyGrid, enemyProgress, path, halfFrom, halfTo);
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TOWERS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    towers.get(i).selectTarget(delta, enemies, enemyGrid, enemyProgress, path);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(half(from, middle), half(middle, to));
+        }
+    }
+}
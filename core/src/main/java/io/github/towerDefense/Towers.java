@@ -1,33 +1,46 @@
 /**
  * @author Sahil Sahu & Richard Pu
- * Last modified: 2025-06-10
+ * Last modified: 2026-10-17
  * This file is part of Rise of Benum Tower Defense.
  * Defines the properties and behavior of a tower unit.
  */
 
 package io.github.towerDefense;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 
-import com.badlogic.gdx.graphics.Texture; 
-import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2; 
 
+import io.github.towerDefense.map.JunglePath;
+
 public class Towers {
     public float x, y;
     public static final float SIZE = 100;  // size of the tower
     private final float attackRange;
     private final float attackDamage;
     private final float attackCooldown;
+    private final float splashRadius; // 0 for towers that hit only their target
     private float timeSinceLastAttack; 
     private static final int COST = 50;  
     private final String projectileTextureFileName;
+    private final String towerTextureFileName;
+    private final SpriteRegistry sprites;
+    private TextureRegion projectileRegion;
+    private int typeIndex; //index of the tower's type in the game rules, -1 if it has none
 
-    private Enemy currentTarget; 
+    private int currentTargetId; // id in the map's EnemyStore, -1 when there is no target
+    private int pendingShotTargetId; // target to shoot at in the fire phase of this tick, -1 for no shot
+    private TargetingMode targetingMode;
+    private JunglePath coveragePath;
+    private boolean coversPath;
+    private final float[] coverage = new float[2]; // path distances that pass through the attack range
+    private static final float COVERAGE_MARGIN = 1f;
 
-    private Texture towerTexture;
-    private Sprite towerSprite; 
+    private TextureRegion towerRegion;
 
     /**
      * Constructor for the Towers class.
@@ -39,21 +52,43 @@ public class Towers {
      * @param attackCooldown The time between attacks.
      * @param projectileTextureFileName The file name for the projectile texture.
      * @param towerType The file name for the tower image texture.
+     * @param sprites The registry that shares tower and projectile sprites within a map, or null when running without graphics.
      */
-    public Towers(float x, float y, float attackRange, float attackDamage, float attackCooldown, String projectileTextureFileName, String towerType) {
+    public Towers(float x, float y, float attackRange, float attackDamage, float attackCooldown, String projectileTextureFileName, String towerType, SpriteRegistry sprites) {
+        this(x, y, attackRange, attackDamage, attackCooldown, 0f, projectileTextureFileName, towerType, sprites);
+    }
+
+    /**
+     * Constructor for a tower whose projectiles hit every enemy around the impact.
+     * 
+     * @param x The x-coordinate of the tower.
+     * @param y The y-coordinate of the tower.
+     * @param attackRange The range within which the tower can attack enemies.
+     * @param attackDamage The damage dealt to each enemy hit per attack.
+     * @param attackCooldown The time between attacks.
+     * @param splashRadius The radius around the impact in which every enemy is hit, or 0 to hit only the target.
+     * @param projectileTextureFileName The file name for the projectile texture.
+     * @param towerType The file name for the tower image texture.
+     * @param sprites The registry that shares tower and projectile sprites within a map, or null when running without graphics.
+     */
+    public Towers(float x, float y, float attackRange, float attackDamage, float attackCooldown, float splashRadius, String projectileTextureFileName, String towerType, SpriteRegistry sprites) {
         this.x = x;
         this.y = y;
         this.attackRange = attackRange;
         this.attackDamage = attackDamage;
         this.attackCooldown = attackCooldown;
+        this.splashRadius = splashRadius;
         this.timeSinceLastAttack = 0; 
+        this.currentTargetId = -1;
+        this.pendingShotTargetId = -1;
+        this.targetingMode = TargetingMode.CLOSEST;
+        this.typeIndex = -1;
         this.projectileTextureFileName = projectileTextureFileName;
-
-        if (towerType != null && !towerType.isEmpty()) {
-            this.towerTexture = new Texture(towerType);
-            this.towerSprite = new Sprite(towerTexture);
-            this.towerSprite.setSize(SIZE, SIZE); 
-            this.towerSprite.setPosition(x, y); 
+        this.towerTextureFileName = towerType;
+        this.sprites = sprites;
+        if (sprites != null) {
+            this.projectileRegion = sprites.acquire(projectileTextureFileName);
+            this.towerRegion = sprites.acquire(towerType);
         }
     }
 
@@ -63,91 +98,131 @@ public class Towers {
      * Postcondition: The tower will find a target and shoot projectiles
      * 
      * @param delta The time elapsed since the last frame.
-     * @param enemies The list of active enemies on the map.
+     * @param enemies The enemies on the map.
+     * @param enemyGrid The spatial grid of enemies, rebuilt by the map for this tick.
+     * @param enemyProgress The enemies ordered by path progress, rebuilt by the map for this tick.
+     * @param path The path the enemies follow.
      * @param projectiles The list of active projectiles on the map (to add new ones).
-     * @param batch The SpriteBatch instance used for rendering (passed to projectiles).
+     * @param projectilePool The map's pool that new projectiles are drawn from.
+     */
+    public void update(float delta, EnemyStore enemies, EnemySpatialGrid enemyGrid, EnemyProgressIndex enemyProgress, JunglePath path, ArrayList<Projectile> projectiles, ProjectilePool projectilePool) { 
+        selectTarget(delta, enemies, enemyGrid, enemyProgress, path);
+        fire(projectiles, projectilePool);
+    }
+
+    /**
+     * First phase of the update: advances the cooldown, picks a target and decides whether to shoot.
+     * Only the tower's own fields change and the enemies are only read, so the towers of a map can run this phase in parallel.
+     * Precondition: all parameters must be valid and nothing changes the enemies, grid or index until every tower is done.
+     * Postcondition: The tower has a target, or none, and a shot is pending if the cooldown is over and the target is in range.
+     * 
+     * @param delta The time elapsed since the last frame.
+     * @param enemies The enemies on the map.
+     * @param enemyGrid The spatial grid of enemies, rebuilt by the map for this tick.
+     * @param enemyProgress The enemies ordered by path progress, rebuilt by the map for this tick.
+     * @param path The path the enemies follow.
      */
-    public void update(float delta, ArrayList<Enemy> enemies, ArrayList<Projectile> projectiles, SpriteBatch batch) { 
+    public void selectTarget(float delta, EnemyStore enemies, EnemySpatialGrid enemyGrid, EnemyProgressIndex enemyProgress, JunglePath path) {
         timeSinceLastAttack += delta; 
 
-        if (currentTarget == null || !currentTarget.isAlive() || !isInRange(currentTarget)) {
-            findNewTarget(enemies);
+        if (targetingMode == TargetingMode.CLOSEST) {
+            if (!isInRange(enemies, enemies.slotOf(currentTargetId))) {
+                findNewTarget(enemies, enemyGrid);
+            }
+        } else {
+            findTargetByProgress(enemies, enemyProgress, path);
         }
 
-        if (currentTarget != null && timeSinceLastAttack >= attackCooldown) {
-            shootProjectile(projectiles, batch);
+        pendingShotTargetId = -1;
+        if (currentTargetId >= 0 && timeSinceLastAttack >= attackCooldown) {
+            if (isInRange(enemies, enemies.slotOf(currentTargetId))) {
+                pendingShotTargetId = currentTargetId;
+            }
             timeSinceLastAttack = 0; 
         }
     }
 
     /**
-     * Renders the tower's sprite using the provided SpriteBatch.
-     * Precondition: The tower's texture must be loaded and the SpriteBatch must be valid.
-     * Postcondition: The tower's sprite is drawn on the screen.
+     * Second phase of the update: shoots the shot decided by selectTarget. Run for one tower after another in map order,
+     * so projectiles are added in the same order however the first phase ran.
+     * Precondition: selectTarget has run this tick.
+     * Postcondition: A pooled Projectile sharing this tower's projectile sprite is added to the projectiles list if a shot was pending.
      * 
-     * @param batch SpriteBatch used for rendering the tower's sprite.
+     * @param projectiles The list of active projectiles on the map (to add new ones).
+     * @param projectilePool The map's pool that new projectiles are drawn from.
      */
-    public void renderSprite(SpriteBatch batch) {
-        if (towerSprite != null) {
-            towerSprite.draw(batch);
+    public void fire(ArrayList<Projectile> projectiles, ProjectilePool projectilePool) {
+        if (pendingShotTargetId >= 0) {
+            Vector2 towerCenter = getCenter();
+            projectiles.add(projectilePool.obtain().init(towerCenter.x, towerCenter.y, pendingShotTargetId, 500f, (int)attackDamage, projectileRegion, typeIndex, splashRadius)); 
+            pendingShotTargetId = -1;
         }
     }
 
     /**
-     * Checks if the given enemy is within the tower's attack range.
-     * Precondition: The enemy must not be null.
+     * Queues the tower's sprite for the map's render pass.
+     * Precondition: The queue must not be null.
+     * Postcondition: The tower's sprite is queued on the tower layer, if the tower has one.
+     * 
+     * @param queue The sprite queue of the current frame.
+     */
+    public void queueSprite(SpriteQueue queue) {
+        queue.add(SpriteQueue.LAYER_TOWERS, towerRegion, x, y, SIZE, SIZE);
+    }
+
+    /**
+     * Checks if the enemy in the given slot is alive and within the tower's attack range.
+     * Precondition: enemies must not be null.
      * Postcondition: Returns true if the enemy is within range, false otherwise.
      * 
-     * @param enemy The enemy to check against the tower's attack range.
+     * @param enemies The enemies on the map.
+     * @param slot The slot of the enemy to check, or -1 for none.
      * @return true if the enemy is within range, false otherwise.
      */
-    private boolean isInRange(Enemy enemy) {
-        if (enemy == null) return false;
-        Vector2 towerCenter = getCenter();
-        Vector2 enemyCenter = new Vector2(enemy.x + Enemy.SIZE / 2f, enemy.y + Enemy.SIZE / 2f);
-        return towerCenter.dst(enemyCenter) <= attackRange;
+    private boolean isInRange(EnemyStore enemies, int slot) {
+        if (slot < 0 || !enemies.isAlive(slot)) return false;
+        float dx = enemies.getX(slot) - (x + SIZE / 2f);
+        float dy = enemies.getY(slot) - (y + SIZE / 2f);
+        return dx * dx + dy * dy <= attackRange * attackRange;
     }
 
     /**
-     * Finds a new target from the list of enemies.
-     * Precondition: The enemies list must not be null and should contain at least one enemy.
-     * Postcondition: Sets the currentTarget to the closest enemy within range, or null if no enemies are in range.
+     * Finds a new target using the map's spatial grid of enemies.
+     * Precondition: The enemy grid must not be null and must be rebuilt for the current tick.
+     * Postcondition: Sets the currentTargetId to the closest enemy within range, or -1 if no enemies are in range.
      * 
-     * @param enemies The list of enemies to search for a target.
-     */
-    private void findNewTarget(ArrayList<Enemy> enemies) {
-        currentTarget = null; 
-        float closestDistance = Float.MAX_VALUE;
-
-        for (Enemy enemy : enemies) {
-            if (enemy.isAlive()) { 
-                Vector2 towerCenter = getCenter();
-                Vector2 enemyCenter = new Vector2(enemy.x + Enemy.SIZE / 2f, enemy.y + Enemy.SIZE / 2f);
-                float distance = towerCenter.dst(enemyCenter);
-
-                if (distance <= attackRange) {
-                    if (distance < closestDistance) {
-                        closestDistance = distance;
-                        currentTarget = enemy;
-                    }
-                }
-            }
-        }
+     * @param enemies The enemies on the map.
+     * @param enemyGrid The spatial grid to search for a target.
+     */
+    private void findNewTarget(EnemyStore enemies, EnemySpatialGrid enemyGrid) {
+        int slot = enemyGrid.findClosest(enemies, x + SIZE / 2f, y + SIZE / 2f, attackRange);
+        currentTargetId = slot >= 0 ? enemies.getId(slot) : -1;
     }
 
     /**
-     * Shoots a projectile towards the current target if it is within range.
-     * Precondition: The projectiles list must not be null and the batch must be valid.
-     * Postcondition: A new Projectile is created and added to the projectiles list if the target is valid.
+     * Picks the target for the FIRST, LAST, STRONGEST and WEAKEST modes.
+     * Precondition: The progress index must be rebuilt for the current tick.
+     * Postcondition: Sets the currentTargetId by walking only the enemies whose path progress can put them in range.
      * 
-     * @param projectiles The list of projectiles to which the new projectile will be added.
-     * @param batch SpriteBatch used for rendering the projectile.
+     * @param enemies The enemies on the map.
+     * @param enemyProgress The enemies ordered by path progress.
+     * @param path The path the enemies follow.
      */
-    private void shootProjectile(ArrayList<Projectile> projectiles, SpriteBatch batch) { 
-        if (currentTarget != null && currentTarget.isAlive() && isInRange(currentTarget)) {
-            Vector2 towerCenter = getCenter();
-            projectiles.add(new Projectile(towerCenter.x, towerCenter.y, currentTarget, 500f, (int)attackDamage, this.projectileTextureFileName, batch)); 
+    private void findTargetByProgress(EnemyStore enemies, EnemyProgressIndex enemyProgress, JunglePath path) {
+        float centerX = x + SIZE / 2f;
+        float centerY = y + SIZE / 2f;
+
+        if (path != coveragePath) { //the path is rebuilt on resize
+            coveragePath = path;
+            coversPath = path != null && path.getCoverage(centerX, centerY, attackRange, coverage);
+        }
+
+        if (!coversPath) {
+            currentTargetId = -1;
+            return;
         }
+        int slot = enemyProgress.find(enemies, targetingMode, centerX, centerY, attackRange, coverage[0] - COVERAGE_MARGIN, coverage[1] + COVERAGE_MARGIN);
+        currentTargetId = slot >= 0 ? enemies.getId(slot) : -1;
     }
 
     /**
@@ -161,6 +236,114 @@ public class Towers {
         return new Vector2(x + SIZE / 2f, y + SIZE / 2f);
     }
 
+    /**
+     * Writes the state that changes while the tower plays: its cooldown, target and targeting mode.
+     * Precondition: out must not be null.
+     * Postcondition: The state is written in the order readState reads it. Position and type are written by the simulation.
+     *
+     * @param out The snapshot being written.
+     * @throws IOException If the snapshot cannot be written.
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeFloat(timeSinceLastAttack);
+        out.writeInt(currentTargetId);
+        out.writeByte(targetingMode.ordinal());
+    }
+
+    /**
+     * Reads the state written by writeState.
+     * Precondition: in must not be null.
+     * Postcondition: The tower continues its cooldown, target and targeting mode from the snapshot.
+     *
+     * @param in The snapshot being read.
+     * @throws IOException If the snapshot cannot be read or holds an unknown targeting mode.
+     */
+    public void readState(DataInput in) throws IOException {
+        timeSinceLastAttack = in.readFloat();
+        currentTargetId = in.readInt();
+        int mode = in.readUnsignedByte();
+        if (mode >= TargetingMode.values().length) {
+            throw new IOException("unknown targeting mode " + mode);
+        }
+        targetingMode = TargetingMode.values()[mode];
+        coveragePath = null; //the coverage is worked out again for the current path
+    }
+
+    /**
+     * Gets the sprite of the tower's projectiles.
+     * Precondition: None
+     * Postcondition: Returns the shared region, or null when running without graphics.
+     *
+     * @return The projectile sprite.
+     */
+    public TextureRegion getProjectileRegion() {
+        return projectileRegion;
+    }
+
+    /**
+     * Gets the index of the tower's type in the game rules.
+     * Precondition: None
+     * Postcondition: Returns the index, or -1 if the tower was not placed from a tower type.
+     *
+     * @return The tower type index.
+     */
+    public int getTypeIndex() {
+        return typeIndex;
+    }
+
+    /**
+     * Sets the index of the tower's type in the game rules, so kills by its projectiles are credited to that type.
+     * Precondition: None
+     * Postcondition: Projectiles fired from now on carry the index.
+     *
+     * @param typeIndex The tower type index, or -1 for none.
+     */
+    public void setTypeIndex(int typeIndex) {
+        this.typeIndex = typeIndex;
+    }
+
+    /**
+     * Gets the way the tower chooses its target.
+     * Precondition: None
+     * Postcondition: Returns the targeting mode of the tower.
+     * @return The targeting mode.
+     */
+    public TargetingMode getTargetingMode() {
+        return targetingMode;
+    }
+
+    /**
+     * Sets the way the tower chooses its target.
+     * Precondition: mode must not be null.
+     * Postcondition: The tower picks a new target with the given mode on its next update.
+     * @param mode The new targeting mode.
+     */
+    public void setTargetingMode(TargetingMode mode) {
+        this.targetingMode = mode;
+        this.currentTargetId = -1;
+    }
+
+    /**
+     * Switches the tower to the next targeting mode.
+     * Precondition: None
+     * Postcondition: The targeting mode advances to the next one, wrapping around.
+     */
+    public void cycleTargetingMode() {
+        setTargetingMode(targetingMode.next());
+    }
+
+    /**
+     * Checks if a point lies on the tower.
+     * Precondition: None
+     * Postcondition: Returns true if the point is inside the tower's square, false otherwise.
+     * @param pointX x-coordinate of the point
+     * @param pointY y-coordinate of the point
+     * @return true if the point is inside the tower, false otherwise.
+     */
+    public boolean contains(float pointX, float pointY) {
+        return pointX >= x && pointX <= x + SIZE && pointY >= y && pointY <= y + SIZE;
+    }
+
     /**
      * Gets the attack range of the tower.
      * Precondition: None
@@ -181,6 +364,17 @@ public class Towers {
         return attackDamage;
     }
 
+    /**
+     * Gets the splash radius of the tower's projectiles.
+     * Precondition: None
+     * Postcondition: Returns the radius, or 0 if the tower hits only its target.
+     *
+     * @return The splash radius.
+     */
+    public float getSplashRadius() {
+        return splashRadius;
+    }
+
     /**
      * Gets the cost of the tower.
      * Precondition: None
@@ -192,14 +386,18 @@ public class Towers {
     }
 
     /**
-     * Disposes of the tower's texture when it's no longer needed.
+     * Releases the tower's sprites when it's no longer needed.
      * Precondition: None
-     * Postcondition: The towerTexture is disposed of to free up resources.
+     * Postcondition: The tower's references to its tower and projectile sprites are released.
      */
     public void dispose() {
-        if (towerTexture != null) {
-            towerTexture.dispose();
-            towerTexture = null;
+        if (towerRegion != null) {
+            sprites.release(towerTextureFileName);
+            towerRegion = null;
+        }
+        if (projectileRegion != null) {
+            sprites.release(projectileTextureFileName);
+            projectileRegion = null;
         }
     }
 }
\ No newline at end of file
@@ -1,12 +1,14 @@
 /**
  * @author Sahil Sahu & Richard Pu
- * Last modified: 2025-05-27
+ * Last modified: 2026-10-17
  * This file is part of Rise of Benum Tower Defense.
  * Manages path finding for the jungle map in the game.
+ * Besides the waypoints the path keeps the distance along it at every waypoint, so any distance can be turned into a point quickly.
  */
 package io.github.towerDefense.map;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import com.badlogic.gdx.math.Vector2;
@@ -14,16 +16,18 @@ import com.badlogic.gdx.math.Vector2;
 public class JunglePath {
     private final List<Vector2> waypoints;
     private float pathLength;
+    private float[] cumulativeLengths; //distance along the path at each waypoint, the first is 0
 
     public JunglePath() {
         waypoints = new ArrayList<>();
         pathLength = 0f;
+        cumulativeLengths = new float[16];
     }
 
     /**
      * Adds a waypoint to the path.
      * Precondition: x and y must be valid coordinates within the game map.
-     * Postcondition: The waypoint is added to the path, and the path length is updated.
+     * Postcondition: The waypoint is added to the path, and the path length and the distance along the path at the waypoint are updated.
      * 
      * @param x The x-coordinate of the waypoint.
      * @param y The y-coordinate of the waypoint.
@@ -35,6 +39,51 @@ public class JunglePath {
             Vector2 p2 = waypoints.get(waypoints.size() - 1);
             pathLength += p1.dst(p2);
         }
+        if (waypoints.size() > cumulativeLengths.length) {
+            cumulativeLengths = Arrays.copyOf(cumulativeLengths, cumulativeLengths.length * 2);
+        }
+        cumulativeLengths[waypoints.size() - 1] = pathLength;
+    }
+
+    /**
+     * Finds the point at a distance along the path, e.g. where an enemy that has travelled that far stands.
+     * Precondition: The path has at least one waypoint and out must not be null.
+     * Postcondition: out holds the point; distances before the start or past the end give the first or last waypoint.
+     * The segment is found by binary search over the distances at the waypoints, so the lookup takes O(log waypoints).
+     * 
+     * @param distance The distance along the path.
+     * @param out The vector the point is written to.
+     * @return out, for chaining.
+     */
+    public Vector2 positionAt(float distance, Vector2 out) {
+        int last = waypoints.size() - 1;
+        if (distance <= 0f || last == 0) {
+            return out.set(waypoints.get(0));
+        }
+        if (distance >= pathLength) {
+            return out.set(waypoints.get(last));
+        }
+
+        //last waypoint at or before the distance
+        int low = 0;
+        int high = last;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (cumulativeLengths[middle] <= distance) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        Vector2 start = waypoints.get(low);
+        Vector2 end = waypoints.get(low + 1);
+        float segmentLength = cumulativeLengths[low + 1] - cumulativeLengths[low];
+        if (segmentLength <= 0f) {
+            return out.set(start);
+        }
+        float t = (distance - cumulativeLengths[low]) / segmentLength;
+        return out.set(start.x + (end.x - start.x) * t, start.y + (end.y - start.y) * t);
     }
 
     /**
@@ -74,4 +123,50 @@ public class JunglePath {
     public float getPathLength() {
         return pathLength;
     }
+
+    /**
+     * Finds the stretch of the path that passes within range of a point, measured as distance along the path.
+     * Precondition: out must have room for two values.
+     * Postcondition: out[0] and out[1] hold the first and last path distances within range. Parts of the path in between may leave the range.
+     * 
+     * @param centerX x-coordinate of the point
+     * @param centerY y-coordinate of the point
+     * @param range the radius around the point
+     * @param out receives the covered path distances
+     * @return true if any part of the path is within range, false otherwise.
+     */
+    public boolean getCoverage(float centerX, float centerY, float range, float[] out) {
+        boolean covered = false;
+        float distanceAlongPath = 0f;
+
+        for (int i = 0; i < waypoints.size() - 1; i++) {
+            Vector2 p1 = waypoints.get(i);
+            Vector2 p2 = waypoints.get(i + 1);
+            float segmentLength = p1.dst(p2);
+            if (segmentLength > 0f) {
+                float directionX = (p2.x - p1.x) / segmentLength;
+                float directionY = (p2.y - p1.y) / segmentLength;
+                float offsetX = centerX - p1.x;
+                float offsetY = centerY - p1.y;
+
+                //solve |p1 + direction * t - center| <= range for t along the segment
+                float projection = offsetX * directionX + offsetY * directionY;
+                float discriminant = projection * projection - (offsetX * offsetX + offsetY * offsetY - range * range);
+                if (discriminant >= 0f) {
+                    float root = (float) Math.sqrt(discriminant);
+                    float enter = Math.max(0f, projection - root);
+                    float exit = Math.min(segmentLength, projection + root);
+                    if (enter <= exit) {
+                        if (!covered) {
+                            out[0] = distanceAlongPath + enter;
+                            covered = true;
+                        }
+                        out[1] = distanceAlongPath + exit;
+                    }
+                }
+            }
+            distanceAlongPath += segmentLength;
+        }
+        return covered;
+    }
 }
\ No newline at end of file
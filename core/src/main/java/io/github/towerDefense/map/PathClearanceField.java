@@ -0,0 +1,188 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Raster of the distance from every point of the map to the nearest segment of a JunglePath.
+ * Built once per path and screen size, so placement checks become a lookup instead of a walk over every segment.
+ */
+
+package io.github.towerDefense.map;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.math.Vector2;
+
+public class PathClearanceField {
+    private final JunglePath path;
+    private final float width;
+    private final float height;
+    private final float cellSize;
+    private final float maxDistance;
+    private final int columns;
+    private final int rows;
+    private final float[] distances; // sampled at cell corners, (columns + 1) * (rows + 1) values
+
+    /**
+     * Constructor for the PathClearanceField class.
+     * Only the corners within maxDistance of a segment are visited, so building the field costs about the area of the band around the path.
+     *
+     * @param path The path to measure the distance to.
+     * @param width The width of the playing field.
+     * @param height The height of the playing field.
+     * @param cellSize The width and height of one raster cell in world units.
+     * @param maxDistance The distance at which the field saturates; anything further away reads as maxDistance.
+     */
+    public PathClearanceField(JunglePath path, float width, float height, float cellSize, float maxDistance) {
+        this.path = path;
+        this.width = width;
+        this.height = height;
+        this.cellSize = cellSize;
+        this.maxDistance = maxDistance;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.distances = new float[(columns + 1) * (rows + 1)];
+
+        for (int i = 0; i < distances.length; i++) {
+            distances[i] = maxDistance;
+        }
+        for (int i = 0; i < path.getNumWaypoints() - 1; i++) {
+            Vector2 p1 = path.getWaypoint(i);
+            Vector2 p2 = path.getWaypoint(i + 1);
+            if (p1 == null || p2 == null) continue;
+            addSegment(p1.x, p1.y, p2.x, p2.y);
+        }
+    }
+
+    /**
+     * Returns the distance from a point to the path, interpolated between the four surrounding cell corners.
+     * Precondition: None
+     * Postcondition: Points outside the field are clamped to its edge. The result is accurate to a fraction of a cell.
+     *
+     * @param x The x-coordinate of the point.
+     * @param y The y-coordinate of the point.
+     * @return The distance to the nearest path segment, at most maxDistance.
+     */
+    public float distanceAt(float x, float y) {
+        float gx = Math.max(0f, Math.min(columns, x / cellSize));
+        float gy = Math.max(0f, Math.min(rows, y / cellSize));
+        int column = Math.min(columns - 1, (int) gx);
+        int row = Math.min(rows - 1, (int) gy);
+        float fx = gx - column;
+        float fy = gy - row;
+
+        int corner = row * (columns + 1) + column;
+        float bottom = distances[corner] + (distances[corner + 1] - distances[corner]) * fx;
+        float top = distances[corner + columns + 1] + (distances[corner + columns + 2] - distances[corner + columns + 1]) * fx;
+        return bottom + (top - bottom) * fy;
+    }
+
+    /**
+     * Checks if a point lies inside the area covered by the field.
+     * Precondition: None
+     * Postcondition: Returns true if distanceAt needs no clamping for the point.
+     *
+     * @param x The x-coordinate of the point.
+     * @param y The y-coordinate of the point.
+     * @return true if the point is inside the field, false otherwise.
+     */
+    public boolean contains(float x, float y) {
+        return x >= 0 && y >= 0 && x <= width && y <= height;
+    }
+
+    /**
+     * Draws every cell closer to the path than the given distance into a pixmap, one pixel per cell.
+     * Precondition: distance is less than maxDistance.
+     * Postcondition: Returns a new pixmap that the caller must dispose of. Row 0 is the top of the field, so the pixmap
+     * can be turned into a texture and drawn stretched over the whole field.
+     *
+     * @param distance The distance from the path below which a cell is coloured.
+     * @param color The colour of the band.
+     * @return The pixmap of the band.
+     */
+    public Pixmap createBandPixmap(float distance, Color color) {
+        Pixmap pixmap = new Pixmap(columns, rows, Pixmap.Format.RGBA8888);
+        pixmap.setColor(color);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                if (distanceAt((column + 0.5f) * cellSize, (row + 0.5f) * cellSize) < distance) {
+                    pixmap.drawPixel(column, rows - 1 - row);
+                }
+            }
+        }
+        return pixmap;
+    }
+
+    /**
+     * Gets the path the field was built for.
+     * Precondition: None
+     * Postcondition: Returns the path.
+     *
+     * @return The path.
+     */
+    public JunglePath getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the distance at which the field saturates.
+     * Precondition: None
+     * Postcondition: Returns the maximum distance the field can tell apart.
+     *
+     * @return The maximum distance.
+     */
+    public float getMaxDistance() {
+        return maxDistance;
+    }
+
+    /**
+     * Gets the width of the area covered by the field.
+     * Precondition: None
+     * Postcondition: Returns the width.
+     *
+     * @return The width of the field.
+     */
+    public float getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the area covered by the field.
+     * Precondition: None
+     * Postcondition: Returns the height.
+     *
+     * @return The height of the field.
+     */
+    public float getHeight() {
+        return height;
+    }
+
+    private void addSegment(float x1, float y1, float x2, float y2) {
+        float segmentX = x2 - x1;
+        float segmentY = y2 - y1;
+        float lengthSq = segmentX * segmentX + segmentY * segmentY;
+
+        int minColumn = Math.max(0, (int) Math.floor((Math.min(x1, x2) - maxDistance) / cellSize));
+        int maxColumn = Math.min(columns, (int) Math.ceil((Math.max(x1, x2) + maxDistance) / cellSize));
+        int minRow = Math.max(0, (int) Math.floor((Math.min(y1, y2) - maxDistance) / cellSize));
+        int maxRow = Math.min(rows, (int) Math.ceil((Math.max(y1, y2) + maxDistance) / cellSize));
+
+        for (int row = minRow; row <= maxRow; row++) {
+            float py = row * cellSize;
+            for (int column = minColumn; column <= maxColumn; column++) {
+                float px = column * cellSize;
+
+                //project the corner onto the segment and clamp to its end points
+                float t = lengthSq > 0 ? ((px - x1) * segmentX + (py - y1) * segmentY) / lengthSq : 0;
+                t = Math.max(0f, Math.min(1f, t));
+                float dx = x1 + segmentX * t - px;
+                float dy = y1 + segmentY * t - py;
+                float distance = (float) Math.sqrt(dx * dx + dy * dy);
+
+                int corner = row * (columns + 1) + column;
+                if (distance < distances[corner]) {
+                    distances[corner] = distance;
+                }
+            }
+        }
+    }
+}
@@ -1,31 +1,33 @@
 /**
  * @author Sahil Sahu & Richard Pu
- * Last modified: 2025-06-12
+ * Last modified: 2026-10-17
  * This file is part of Rise of Benum Tower Defense.
  * Jungle map class for the game.
  * This class will handle the jungle map layout and logic
+ * With endless rules the waves never run out, and a report of frame and tick times per wave is written until the game falls below 30 FPS.
  */
 
 package io.github.towerDefense.map;
 
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
@@ -35,28 +37,47 @@ import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 
-import io.github.towerDefense.Enemy;
+import io.github.towerDefense.EndlessReport;
+import io.github.towerDefense.EnemyType;
+import io.github.towerDefense.FrameProfiler;
+import io.github.towerDefense.GameAssets;
+import io.github.towerDefense.GameRules;
+import io.github.towerDefense.GameSimulation;
+import io.github.towerDefense.GameSnapshot;
+import io.github.towerDefense.Hud;
 import io.github.towerDefense.Main;
-import io.github.towerDefense.Projectile;
-import io.github.towerDefense.SettingsScreen;
-import io.github.towerDefense.StartScreen;
-import io.github.towerDefense.TowerPlacementManager;
+import io.github.towerDefense.MusicManager;
+import io.github.towerDefense.ReplayRecorder;
+import io.github.towerDefense.SpriteQueue;
+import io.github.towerDefense.SpriteRegistry;
+import io.github.towerDefense.TowerType;
 import io.github.towerDefense.Towers;
 
 public class JungleMap implements Screen {
+    private static final int KEPT_REPLAYS = 10; //older recordings are deleted when a new session starts
+
     private final Main game;
+    private final boolean endless;
 
     //map variables
     private Texture backgroundImage;
     private SpriteBatch batch;
     private ShapeRenderer shapeRenderer;
-    private JunglePath enemyPath;
+    private Texture forbiddenBandTexture;
+    private SpriteQueue spriteQueue;
+
+    //render statistics, toggled with F3
+    private boolean showRenderStats;
+    private int drawCallsLastFrame;
+
+    //frame profiler, overlay toggled with F2 and CSV recording with F4
+    private FrameProfiler profiler;
+    private boolean showProfiler;
 
     //sound variables
-    private Sound mainSound;
-    private long mainID;
     private Sound towerPlaceSound;
     private Sound buttonClickSound;
     private Sound newRoundSound;
@@ -66,71 +87,48 @@ public class JungleMap implements Screen {
     private Sound enemyDeathSound2;
     private Sound enemyDeathSound3;
 
-    //wave variables
-    private final float TIME_BETWEEN_WAVES = 5f;
-    private final int MAX_WAVES = 40; //wave amount
-    private float waveTimer;
-    private int waveNumber;
-    private int enemiesPerWave;
-    private int enemiesSpawnedInWave;
-    private float enemySpawnIntervalInWave;
-    private float individualEnemySpawnTimer;
-
-    //font variables
-    private BitmapFont font;
-    private GlyphLayout glyphLayout;
+    //text
+    private Hud hud;
+    private final Vector3 hoverCoords = new Vector3();
 
     //game state variables
-    private ArrayList<Enemy> enemies;
-    private ArrayList<Towers> towers;
-    private ArrayList<Projectile> projectiles;
+    private GameRules rules;
+    private GameSimulation simulation;
+    private EndlessReport endlessReport; //per wave frame and tick times, only with endless rules
+    private ReplayRecorder replayRecorder; //every session is recorded so it can be played back by the replay runner
+    private GameSnapshot snapshots; //quick save with F5, quick load with F9, autosave at every new wave
+    private SpriteRegistry sprites; //tower, enemy and projectile sprites
     private OrthographicCamera camera;
-    private TowerPlacementManager placementManager;
-
-    private int benumCoin;
-    private int lives;
 
     //dag and drop variables
     private Stage stage;
     private DragAndDrop dragAndDrop;
-    private Texture towerIconTexture1, towerIconTexture2, towerIconTexture3;
-    private Image towerDraggableImage1, towerDraggableImage2, towerDraggableImage3;
+    private TextureRegion towerIconRegion1, towerIconRegion2, towerIconRegion3, towerIconRegion4;
+    private Image towerDraggableImage1, towerDraggableImage2, towerDraggableImage3, towerDraggableImage4;
+    private Image[] towerIcons; //in the order of the tower costs
     private Actor mapDropTargetActor;
+    private Actor speedButton; //cycles the game speed, its label is drawn by the hud
     private DragAndDrop.Payload currentDragPayload = null;
 
     //textures/files
     private Texture leaveButtonTexture;
-    private String projectileFileName;
-    private String towerImageFileName; 
-    private Texture enemyTexture1;
-    private Texture enemyTexture2;
-    private Texture enemyTexture3;
-
-    //tower properties
-    private static final int COST_TOWER_1 = 50;
-    private static final float RANGE_TOWER_1 = 200f;
-    private static final float DAMAGE_TOWER_1 = 1f;
-    private static final float COOLDOWN_TOWER_1 = 0.3f;
-    private static final String TOWER1_IMAGE_PATH = "benum.jpg";
-
-    private static final int COST_TOWER_2 = 100;
-    private static final float RANGE_TOWER_2 = 170f;
-    private static final float DAMAGE_TOWER_2 = 1.5f;
-    private static final float COOLDOWN_TOWER_2 = 0.26f;
-    private static final String TOWER2_IMAGE_PATH = "benum2.png"; 
-
-    private static final int COST_TOWER_3 = 150;
-    private static final float RANGE_TOWER_3 = 150f;
-    private static final float DAMAGE_TOWER_3 = 2.5f;
-    private static final float COOLDOWN_TOWER_3 = 0.2f;
-    private static final String TOWER3_IMAGE_PATH = "benum3.png"; 
-
-    //boundaries
-    private static final float PATH_CLEARANCE_FROM_TOWER_EDGE = 10f;
-    private static final float USER_PANEL_HEIGHT = 170f;
+    private TextureRegion enemyRegion1;
+    private TextureRegion enemyRegion2;
+    private TextureRegion enemyRegion3;
 
     public JungleMap(Main game) {
+        this(game, false);
+    }
+
+    /**
+     * Constructor for the JungleMap class.
+     *
+     * @param game The game the map belongs to.
+     * @param endless true to play endless rules and report how the game keeps up with the growing waves, false for the 40 waves of the jungle.
+     */
+    public JungleMap(Main game, boolean endless) {
         this.game = game;
+        this.endless = endless;
     }
 
 
@@ -142,51 +140,59 @@ public class JungleMap implements Screen {
     @Override
     public void show() {
         batch = new SpriteBatch();
+        spriteQueue = new SpriteQueue();
+        profiler = new FrameProfiler();
         shapeRenderer = new ShapeRenderer();
-        backgroundImage = new Texture("maps/jungleMap.jpg");
-        enemyTexture1 = new Texture("enemy.jpg"); 
-        enemyTexture2 = new Texture("enemy2.jpg");
-        enemyTexture3 = new Texture("enemy3.jpg");
-        towers = new ArrayList<>();
-        enemies = new ArrayList<>();
-        projectiles = new ArrayList<>();
+        GameAssets assets = game.getAssets(); //preloaded behind the splash screen
+        backgroundImage = assets.getTexture(GameAssets.JUNGLE_BACKGROUND);
+        sprites = new SpriteRegistry(assets);
+        enemyRegion1 = sprites.acquire(GameAssets.ENEMY_IMAGES[0]);
+        enemyRegion2 = sprites.acquire(GameAssets.ENEMY_IMAGES[1]);
+        enemyRegion3 = sprites.acquire(GameAssets.ENEMY_IMAGES[2]);
 
         camera = new OrthographicCamera();
         camera.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
-        benumCoin = 100; //starting coin
-        lives = 3; //starting lives
-
-        placementManager = new TowerPlacementManager(towers);
-        enemyPath = new JunglePath();
-
-        waveTimer = TIME_BETWEEN_WAVES;
-        waveNumber = 1;
-        enemiesPerWave = 3; //starting # enemy
-        enemiesSpawnedInWave = 0;
-        enemySpawnIntervalInWave = 1.0f;
-        individualEnemySpawnTimer = 0f;
+        rules = endless ? GameRules.endless() : GameRules.jungle();
 
-        //font info
-        font = new BitmapFont();
-        glyphLayout = new GlyphLayout();
-        font.getData().setScale(2.5f);
+        //text
+        hud = new Hud(rules.getMaxWaves(), rules.getTowerCosts());
 
         // Load sounds
-        mainSound = Gdx.audio.newSound(Gdx.files.internal("audio/main.mp3"));
-        if (SettingsScreen.musicEnabled) {
-            mainID = mainSound.play(0.5f);
-            mainSound.setLooping(mainID, true);
+        game.getMusic().play(MusicManager.MAP_MUSIC, 0.5f);
+
+        towerPlaceSound = assets.getSound(GameAssets.TOWER_PLACE_SOUND);
+        buttonClickSound = assets.getSound(GameAssets.BUTTON_CLICK_SOUND);
+        newRoundSound = assets.getSound(GameAssets.NEW_ROUND_SOUND);
+        gameWinSound = assets.getSound(GameAssets.GAME_WIN_SOUND);
+        gameOverSound = assets.getSound(GameAssets.GAME_OVER_SOUND);
+        enemyDeathSound1 = assets.getSound(GameAssets.ENEMY_DEATH_SOUNDS[0]);
+        enemyDeathSound2 = assets.getSound(GameAssets.ENEMY_DEATH_SOUNDS[1]);
+        enemyDeathSound3 = assets.getSound(GameAssets.ENEMY_DEATH_SOUNDS[2]); 
+
+        //game logic, stepped in fixed ticks by render
+        EnemyType[] enemyTypes = rules.createEnemyTypes(
+            new TextureRegion[] {enemyRegion1, enemyRegion2, enemyRegion3},
+            new Sound[] {enemyDeathSound1, enemyDeathSound2, enemyDeathSound3});
+        simulation = new GameSimulation(rules, enemyTypes, sprites);
+        simulation.setProfiler(profiler);
+        snapshots = new GameSnapshot();
+        startReplay();
+        if (rules.isEndless()) {
+            endlessReport = new EndlessReport(Gdx.files.local("profiles/endless-" + System.currentTimeMillis() + ".csv"), EndlessReport.DEFAULT_TARGET_FPS);
         }
+        simulation.setListener(new GameSimulation.Listener() {
+            @Override
+            public void onEnemyKilled(EnemyType type) {
+                game.getEffects().play(type.getDeathSound(), 1f); //a burst of kills is merged by the mixer
+            }
 
-        towerPlaceSound = Gdx.audio.newSound(Gdx.files.internal("audio/towerPlace.mp3"));
-        buttonClickSound = Gdx.audio.newSound(Gdx.files.internal("audio/buttonClick.wav"));
-        newRoundSound = Gdx.audio.newSound(Gdx.files.internal("audio/newRound.wav"));
-        gameWinSound = Gdx.audio.newSound(Gdx.files.internal("audio/gameWin.wav"));
-        gameOverSound = Gdx.audio.newSound(Gdx.files.internal("audio/gameOver.mp3"));
-        enemyDeathSound1 = Gdx.audio.newSound(Gdx.files.internal("audio/peteDie.mp3"));
-        enemyDeathSound2 = Gdx.audio.newSound(Gdx.files.internal("audio/nikDie.mp3"));
-        enemyDeathSound3 = Gdx.audio.newSound(Gdx.files.internal("audio/jeffDie.mp3")); 
+            @Override
+            public void onWaveStarted(int wave) {
+                game.getEffects().play(newRoundSound, 1f);
+                snapshots.save(simulation, Gdx.files.local(saveFile("auto")));
+            }
+        });
 
         stage = new Stage(new ScreenViewport());
         dragAndDrop = new DragAndDrop();
@@ -196,28 +202,37 @@ public class JungleMap implements Screen {
         stage.addActor(mapDropTargetActor);
 
         //drag and drop
-        towerIconTexture1 = new Texture(TOWER1_IMAGE_PATH);
-        towerIconTexture2 = new Texture(TOWER2_IMAGE_PATH);
-        towerIconTexture3 = new Texture(TOWER3_IMAGE_PATH);
+        towerIconRegion1 = sprites.acquire(rules.getTowerType(0).getTowerImage());
+        towerIconRegion2 = sprites.acquire(rules.getTowerType(1).getTowerImage());
+        towerIconRegion3 = sprites.acquire(rules.getTowerType(2).getTowerImage());
+        towerIconRegion4 = sprites.acquire(rules.getTowerType(3).getTowerImage());
 
-        towerDraggableImage1 = new Image(towerIconTexture1);
+        towerDraggableImage1 = new Image(towerIconRegion1);
         towerDraggableImage1.setSize(Towers.SIZE, Towers.SIZE);
         towerDraggableImage1.setPosition(10, 10);
         stage.addActor(towerDraggableImage1);
 
-        towerDraggableImage2 = new Image(towerIconTexture2);
+        towerDraggableImage2 = new Image(towerIconRegion2);
         towerDraggableImage2.setSize(Towers.SIZE, Towers.SIZE);
         towerDraggableImage2.setPosition(10 + towerDraggableImage1.getWidth() + 10, 10);
         stage.addActor(towerDraggableImage2);
 
-        towerDraggableImage3 = new Image(towerIconTexture3);
+        towerDraggableImage3 = new Image(towerIconRegion3);
         towerDraggableImage3.setSize(Towers.SIZE, Towers.SIZE); 
         towerDraggableImage3.setPosition(10 + towerDraggableImage1.getWidth() + 10 + towerDraggableImage2.getWidth() + 10, 10);
         stage.addActor(towerDraggableImage3);
 
-        addDragAndDropSource(towerDraggableImage1, "TowerType1", towerIconTexture1);
-        addDragAndDropSource(towerDraggableImage2, "TowerType2", towerIconTexture2);
-        addDragAndDropSource(towerDraggableImage3, "TowerType3", towerIconTexture3);
+        //splash tower
+        towerDraggableImage4 = new Image(towerIconRegion4);
+        towerDraggableImage4.setSize(Towers.SIZE, Towers.SIZE);
+        towerDraggableImage4.setPosition(towerDraggableImage3.getX() + towerDraggableImage3.getWidth() + 10, 10);
+        stage.addActor(towerDraggableImage4);
+
+        addDragAndDropSource(towerDraggableImage1, rules.getTowerType(0), towerIconRegion1);
+        addDragAndDropSource(towerDraggableImage2, rules.getTowerType(1), towerIconRegion2);
+        addDragAndDropSource(towerDraggableImage3, rules.getTowerType(2), towerIconRegion3);
+        addDragAndDropSource(towerDraggableImage4, rules.getTowerType(3), towerIconRegion4);
+        towerIcons = new Image[] {towerDraggableImage1, towerDraggableImage2, towerDraggableImage3, towerDraggableImage4};
 
          dragAndDrop.addTarget(new DragAndDrop.Target(mapDropTargetActor) {
             @Override
@@ -236,66 +251,26 @@ public class JungleMap implements Screen {
             public void drop(DragAndDrop.Source source, DragAndDrop.Payload payload, float x, float y, int pointer) {
                 Vector3 worldCoordinates = camera.unproject(new Vector3(x, Gdx.graphics.getHeight()-y, 0));
 
-                String towerTypeString = (String) payload.getObject();
-
-                int towerCost = getTowerCost(towerTypeString);
-                float attackRange = 0, attackDamage = 0, attackCooldown = 0;
-
-                //tower types
-                switch (towerTypeString) {
-                    case "TowerType1":
-                        projectileFileName = "compMice.png";
-                        towerImageFileName = TOWER1_IMAGE_PATH;
-                        attackRange = RANGE_TOWER_1;
-                        attackDamage = DAMAGE_TOWER_1;
-                        attackCooldown = COOLDOWN_TOWER_1;
-                        break;
-                    case "TowerType2":
-                        projectileFileName = "table.png";
-                        towerImageFileName = TOWER2_IMAGE_PATH; 
-                        attackRange = RANGE_TOWER_2; 
-                        attackDamage = DAMAGE_TOWER_2;
-                        attackCooldown = COOLDOWN_TOWER_2;
-                        break;
-                    case "TowerType3":
-                        projectileFileName = "school.png";
-                        towerImageFileName = TOWER3_IMAGE_PATH;
-                        attackRange = RANGE_TOWER_3;
-                        attackDamage = DAMAGE_TOWER_3;
-                        attackCooldown = COOLDOWN_TOWER_3;
-                        break;
-                    default:
-                        break;
-                }
+                TowerType towerType = (TowerType) payload.getObject();
 
                 float placeX = worldCoordinates.x - Towers.SIZE / 2f;
                 float placeY = worldCoordinates.y - Towers.SIZE / 2f;
 
-                //checks variables before placing
-                boolean canAfford = getBenumCoin() >= towerCost;
-                boolean overlaps = placementManager.isOverlapping(placeX, placeY);
-                boolean nearPath = placementManager.isNearPath(placeX, placeY, enemyPath, PATH_CLEARANCE_FROM_TOWER_EDGE);
-                boolean inUserPanel = placeY < USER_PANEL_HEIGHT;
-
-                if (canAfford && !overlaps && !nearPath && !inUserPanel) {
-                    if (spendBenumCoin(towerCost)) {
-                        towers.add(new Towers(placeX, placeY, attackRange, attackDamage, attackCooldown, projectileFileName, towerImageFileName));
-                        if (SettingsScreen.effectEnabled){
-                            towerPlaceSound.play(500f);
-                        }
-                    }
+                //checks coins, user panel, other towers and the path before placing
+                if (simulation.placeTower(towerType, placeX, placeY) != null) {
+                    game.getEffects().play(towerPlaceSound, 1f);
                 }
             }
         });
 
         //leave button
-        leaveButtonTexture = new Texture("leaveButton.png");
+        leaveButtonTexture = assets.getTexture(GameAssets.LEAVE_BUTTON);
         ImageButton leaveButton = new ImageButton(new TextureRegionDrawable(new TextureRegion(leaveButtonTexture)));
         leaveButton.addListener(new ClickListener() {
             /**
              * Called when the leave button is clicked.
              * Pre-conditions: x and y coordinates are valid.
-             * Post-conditions: The main sound stops, button click sound plays, and the game returns to the start screen.
+             * Post-conditions: The button click sound plays and the game returns to the start screen, whose music fades in.
              * 
              * @param event the input event
              * @param x the x-coordinate of the click
@@ -303,11 +278,8 @@ public class JungleMap implements Screen {
              */
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                mainSound.stop(); 
-                if (SettingsScreen.effectEnabled){
-                    buttonClickSound.play(1f);
-                }
-                game.setScreen(new StartScreen(game));
+                game.getEffects().play(buttonClickSound, 1f);
+                game.showStartScreen();
             }
             });
     
@@ -315,44 +287,176 @@ public class JungleMap implements Screen {
         leaveButton.setPosition(Gdx.graphics.getWidth() - leaveButton.getWidth() - 20, -20);
         stage.addActor(leaveButton);
 
+        //speed button, left of the leave button
+        speedButton = new Actor();
+        speedButton.setSize(240, 60);
+        speedButton.setPosition(leaveButton.getX() - speedButton.getWidth() - 20, 70);
+        speedButton.addListener(new ClickListener() {
+            /**
+             * Called when the speed button is clicked.
+             * Pre-conditions: x and y coordinates are valid.
+             * Post-conditions: The button click sound plays and the simulation switches to the next game speed.
+             * 
+             * @param event the input event
+             * @param x the x-coordinate of the click
+             * @param y the y-coordinate of the click
+             */
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                game.getEffects().play(buttonClickSound, 1f);
+                simulation.setSpeed(simulation.getSpeed().next());
+            }
+        });
+        stage.addActor(speedButton);
+
         InputMultiplexer multiplexer = new InputMultiplexer();
         multiplexer.addProcessor(stage);
-        multiplexer.addProcessor(new InputAdapter() {});
+        multiplexer.addProcessor(new InputAdapter() {
+            /**
+             * Called when the map is clicked outside of the UI.
+             * Pre-conditions: screenX and screenY are valid screen coordinates.
+             * Post-conditions: The tower under the cursor, if any, switches to its next targeting mode.
+             * 
+             * @param screenX the x-coordinate of the click
+             * @param screenY the y-coordinate of the click
+             * @param pointer the pointer for the event
+             * @param button the button pressed
+             * @return true if a tower was clicked, false otherwise
+             */
+            @Override
+            public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+                Vector3 worldCoordinates = camera.unproject(new Vector3(screenX, screenY, 0));
+                Towers tower = simulation.findTowerAt(worldCoordinates.x, worldCoordinates.y);
+                if (tower != null) {
+                    simulation.cycleTargetingMode(tower);
+                    game.getEffects().play(buttonClickSound, 1f);
+                    return true;
+                }
+                return false;
+            }
+
+            /**
+             * Called when a key is pressed.
+             * Pre-conditions: keycode is a valid key code.
+             * Post-conditions: F3 shows or hides the render statistics overlay, F2 the frame profiler overlay, and F4 starts or stops recording the frame profile.
+             * F5 saves the game to the quick save and F9 loads it.
+             * 
+             * @param keycode the key pressed
+             * @return true if the key was handled, false otherwise
+             */
+            @Override
+            public boolean keyDown(int keycode) {
+                if (keycode == Input.Keys.F3) {
+                    showRenderStats = !showRenderStats;
+                    return true;
+                }
+                if (keycode == Input.Keys.F2) {
+                    showProfiler = !showProfiler;
+                    return true;
+                }
+                if (keycode == Input.Keys.F4) {
+                    profiler.toggleRecording();
+                    return true;
+                }
+                if (keycode == Input.Keys.F5) {
+                    snapshots.save(simulation, Gdx.files.local(saveFile("quick")));
+                    return true;
+                }
+                if (keycode == Input.Keys.F9) {
+                    loadSnapshot(Gdx.files.local(saveFile("quick")));
+                    return true;
+                }
+                return false;
+            }
+        });
         Gdx.input.setInputProcessor(multiplexer);
     }
 
     /**
-     * Returns the cost of the tower based on its type.
-     * Pre-conditions: towerTypeString must be a valid tower type string.
-     * Post-conditions: Returns the cost of the tower as an integer.
-     * 
-     * @param towerTypeString the type of the tower as a string
-     * @return the cost of the tower
+     * Starts recording the session to a new replay file in the local replays folder.
+     * Pre-conditions: the simulation has been created and its field has not been set yet.
+     * Post-conditions: the simulation writes its actions and tick checksums to the replay; if the file cannot be opened the game runs without one.
+     * Only the newest KEPT_REPLAYS recordings, this one included, are kept.
+     */
+    private void startReplay() {
+        deleteOldReplays(Gdx.files.local("replays"), KEPT_REPLAYS - 1);
+        FileHandle replayFile = Gdx.files.local("replays/" + rules.getName() + "-" + System.currentTimeMillis() + ".replay");
+        try {
+            replayRecorder = new ReplayRecorder(replayFile.write(false), rules);
+            simulation.setRecorder(replayRecorder);
+        } catch (GdxRuntimeException | IOException e) {
+            System.out.println("Could not record replay " + replayFile.path() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes all but the newest recordings in the replays folder, so recording every session does not fill the disk.
+     * Pre-conditions: folder is not null.
+     * Post-conditions: at most keep replay files are left, the most recently written ones; files that cannot be deleted are reported.
+     *
+     * @param folder the replays folder
+     * @param keep the number of replays to keep
+     */
+    private static void deleteOldReplays(FileHandle folder, int keep) {
+        if (!folder.isDirectory()) return;
+
+        FileHandle[] replays = folder.list(".replay");
+        if (replays.length <= keep) return;
+        Arrays.sort(replays, Comparator.comparingLong(FileHandle::lastModified).reversed()); //newest first
+        for (int i = keep; i < replays.length; i++) {
+            if (!replays[i].delete()) {
+                System.out.println("Could not delete old replay " + replays[i].path());
+            }
+        }
+    }
+
+    /**
+     * Gets the path of a snapshot file of the current rules, so endless and normal games do not overwrite each other's saves.
+     * Pre-conditions: the rules have been created.
+     * Post-conditions: returns a path in the local saves folder, e.g. saves/jungle-quick.snapshot.
+     *
+     * @param kind "quick" for F5/F9 or "auto" for the save at every new wave
+     * @return the local path of the snapshot
+     */
+    private String saveFile(String kind) {
+        return "saves/" + rules.getName() + "-" + kind + ".snapshot";
+    }
+
+    /**
+     * Continues the game from a saved snapshot.
+     * Pre-conditions: file is not null.
+     * Post-conditions: if the snapshot can be loaded the game continues from it and the replay is ended, since a replay cannot jump to a saved state;
+     * otherwise the game goes on unchanged.
+     *
+     * @param file the snapshot to load
      */
-    private int getTowerCost(String towerTypeString) {
-        if ("TowerType1".equals(towerTypeString)) return COST_TOWER_1;
-        if ("TowerType2".equals(towerTypeString)) return COST_TOWER_2;
-        if ("TowerType3".equals(towerTypeString)) return COST_TOWER_3;
-        return Integer.MAX_VALUE;
+    private void loadSnapshot(FileHandle file) {
+        if (snapshots.load(simulation, file)) {
+            if (replayRecorder != null) {
+                replayRecorder.close();
+                simulation.setRecorder(null);
+            }
+            System.out.println("Loaded " + file.path() + " at wave " + simulation.getWaveNumber());
+        }
     }
 
     /**
      * Adds a drag and drop source for the specified tower type.
-     * Pre-conditions: sourceActor must be a valid Image actor, towerType must be a valid string, and dragActorTexture must not be null.
+     * Pre-conditions: sourceActor must be a valid Image actor, towerType must not be null, and dragActorRegion must not be null.
      * Post-conditions: The drag and drop source is added to the DragAndDrop system.
      * 
      * @param sourceActor the Image actor that will be the source of the drag and drop
-     * @param towerType the type of the tower as a string
-     * @param dragActorTexture the texture for the drag actor
+     * @param towerType the type of the tower, carried as the payload object
+     * @param dragActorRegion the sprite for the drag actor
      */
-    private void addDragAndDropSource(final Image sourceActor, final String towerType, Texture dragActorTexture) {
+    private void addDragAndDropSource(final Image sourceActor, final TowerType towerType, TextureRegion dragActorRegion) {
         dragAndDrop.addSource(new DragAndDrop.Source(sourceActor) {
             @Override
             public DragAndDrop.Payload dragStart(InputEvent event, float x, float y, int pointer) {
                 currentDragPayload = new DragAndDrop.Payload();
                 currentDragPayload.setObject(towerType);
 
-                Image dragImage = new Image(dragActorTexture);
+                Image dragImage = new Image(dragActorRegion);
                 dragImage.setSize(Towers.SIZE, Towers.SIZE);
                 currentDragPayload.setDragActor(dragImage);
 
@@ -376,7 +480,8 @@ public class JungleMap implements Screen {
     /**
      * Main render method that updates the game state and renders the game map.
      * Pre-conditions: delta is a valid float value representing the time since the last frame.
-     * Post-conditions: the game map is rendered with the current game state, including background, towers, enemies, and UI elements.
+     * Post-conditions: the simulation runs the fixed ticks that fit into delta, then the background, towers, projectiles, enemies and HUD are drawn
+     * in a single batch pass, between the last two ticks, followed by the placement preview and the UI stage. With endless rules the frame is added to the report.
      */
 
     @Override
@@ -384,53 +489,42 @@ public class JungleMap implements Screen {
         int screenWidth = Gdx.graphics.getWidth();
         int screenHeight = Gdx.graphics.getHeight();
 
+        profiler.beginFrame();
+        long ticksBefore = simulation.getTickCount();
+        simulation.update(delta);
+        if (simulation.isWon()) {
+            game.getEffects().play(gameWinSound, 1f);
+            game.showStartScreen();
+            return;
+        }
+
+        profiler.start(FrameProfiler.Phase.DRAW);
         camera.update();
 
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
         batch.draw(backgroundImage, 0, 0, screenWidth, screenHeight);
 
-        //wave text
-        String waveText = "WAVE " + waveNumber + "/" + MAX_WAVES;
-        glyphLayout.setText(font, waveText);
-        float textX = (screenWidth - glyphLayout.width) / 2;
-        float textY = screenHeight - 20;
-        font.setColor(Color.WHITE);
-        font.draw(batch, waveText, textX, textY);
-
-        //coin text
-        String coinText = "BenumCoin: " + benumCoin;
-        glyphLayout.setText(font, coinText);
-        font.setColor(Color.BLACK);
-        font.draw(batch, coinText, 11, screenHeight - 19);
-        font.setColor(Color.YELLOW);
-        font.draw(batch, coinText, 10, screenHeight - 20);
-
-        //lives text
-        String livesText = "Lives: " + lives;
-        glyphLayout.setText(font, livesText);
-        font.setColor(Color.RED); 
-        font.draw(batch, livesText, 10, screenHeight - 70);
-
-        //cost of towers
-        font.setColor(Color.GREEN); 
-        font.getData().setScale(1.5f); 
-
-        String cost1Text = "$" + COST_TOWER_1;
-        glyphLayout.setText(font, cost1Text);
-        font.draw(batch, cost1Text, towerDraggableImage1.getX() + (towerDraggableImage1.getWidth() - glyphLayout.width) / 2, towerDraggableImage1.getY() + towerDraggableImage1.getHeight() + 20);
-
-        String cost2Text = "$" + COST_TOWER_2;
-        glyphLayout.setText(font, cost2Text);
-        font.draw(batch, cost2Text, towerDraggableImage2.getX() + (towerDraggableImage2.getWidth() - glyphLayout.width) / 2, towerDraggableImage2.getY() + towerDraggableImage2.getHeight() + 20);
-
-        String cost3Text = "$" + COST_TOWER_3;
-        glyphLayout.setText(font, cost3Text);
-        font.draw(batch, cost3Text, towerDraggableImage3.getX() + (towerDraggableImage3.getWidth() - glyphLayout.width) / 2, towerDraggableImage3.getY() + towerDraggableImage3.getHeight() + 20);
-
-        font.getData().setScale(2.5f);
+        //band along the path where no tower fits
+        if (currentDragPayload != null && forbiddenBandTexture != null) {
+            PathClearanceField pathClearance = simulation.getPathClearance();
+            batch.draw(forbiddenBandTexture, 0, 0, pathClearance.getWidth(), pathClearance.getHeight());
+        }
+
+        //world sprites, sorted by layer and texture
+        simulation.queueSprites(spriteQueue);
+        spriteQueue.flush(batch);
+
+        renderHud(screenWidth, screenHeight);
+        if (showRenderStats) {
+            renderStats(screenHeight);
+        }
+        if (showProfiler) {
+            hud.drawProfile(batch, screenWidth, screenHeight, profiler);
+        }
 
         batch.end();
+        int drawCalls = batch.renderCalls;
 
         //tower placement boundary
         if (currentDragPayload != null) {
@@ -442,11 +536,8 @@ public class JungleMap implements Screen {
             float checkTopLeftX = potentialTowerCenterX - Towers.SIZE / 2f;
             float checkTopLeftY = potentialTowerCenterY - Towers.SIZE / 2f;
 
-            String towerTypeString = (String) currentDragPayload.getObject();
-            boolean canAfford = getBenumCoin() >= getTowerCost(towerTypeString);
-            boolean overlaps = placementManager.isOverlapping(checkTopLeftX, checkTopLeftY);
-            boolean nearPath = placementManager.isNearPath(potentialTowerCenterX, potentialTowerCenterY, enemyPath, PATH_CLEARANCE_FROM_TOWER_EDGE);
-            boolean inUserPanel = potentialTowerCenterY < USER_PANEL_HEIGHT; 
+            TowerType towerType = (TowerType) currentDragPayload.getObject();
+            boolean canPlace = simulation.canPlaceTower(towerType, checkTopLeftX, checkTopLeftY);
 
             Gdx.gl.glEnable(GL20.GL_BLEND);
             Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
@@ -454,7 +545,7 @@ public class JungleMap implements Screen {
             shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
 
             //boundary info for user
-            if (canAfford && !overlaps && !nearPath && !inUserPanel) { 
+            if (canPlace) { 
                 shapeRenderer.setColor(0, 1, 0, 0.3f); 
             } else {
                 shapeRenderer.setColor(1, 0, 0, 0.3f);
@@ -464,156 +555,60 @@ public class JungleMap implements Screen {
             shapeRenderer.end();
             Gdx.gl.glDisable(GL20.GL_BLEND);
         }
-        
-        //render towers
-        batch.begin();
-        for (Towers tower : towers) {
-            tower.update(delta, enemies, projectiles, batch);
-            tower.renderSprite(batch); 
-        }
-        batch.end();
-
-        //render projectiles
-        batch.begin();
-        Iterator<Projectile> projectileIterator = projectiles.iterator();
-        while (projectileIterator.hasNext()) {
-            Projectile projectile = projectileIterator.next();
-            projectile.update(delta);
-
-            if (!projectile.isActive()) {
-                projectileIterator.remove();
-            } else {
-                projectile.render(batch);
-            }
-        }
-
-        //render enemies
-        Iterator<Enemy> enemyIterator = enemies.iterator();
-        while (enemyIterator.hasNext()) {
-            Enemy enemy = enemyIterator.next();
-            enemy.move(delta);
-            enemy.render(batch);
-
-            if (enemy.hasReachedEnd()) { 
-                lives--;
-                enemyIterator.remove();
-            } else if (!enemy.isAlive()) { 
-                addBenumCoin(5);
-                if (SettingsScreen.effectEnabled){
-                    enemy.playDeathSound(); 
-                }
-                enemyIterator.remove();
-            } 
-        }
-        batch.end();
-
-        //wave management
-        waveTimer += delta;
-        if (waveTimer >= TIME_BETWEEN_WAVES) {
-            if (enemiesSpawnedInWave < enemiesPerWave) {
-                individualEnemySpawnTimer += delta;
-                if (individualEnemySpawnTimer >= enemySpawnIntervalInWave) {
-                    Vector2 startPoint = enemyPath.getWaypoint(0);
-                    if (startPoint != null) {
-                        int enemyHealth;
-                        float enemySpeed;
-                        Texture currentEnemyTexture;
-                        Sound currentDeathSound;
-
-                        //types of enemies
-                        if (waveNumber <= 10) {
-                            enemyHealth = 3 + waveNumber;
-                            enemySpeed = 100f + waveNumber * 2f;
-                            currentEnemyTexture = enemyTexture1;
-                            currentDeathSound = enemyDeathSound1; 
-                        } else if (waveNumber <= 20) {
-                            enemyHealth = 7 + (waveNumber - 5) * 2;
-                            enemySpeed = 120f + (waveNumber - 5) * 1.5f;
-                            currentEnemyTexture = enemyTexture2;
-                            currentDeathSound = enemyDeathSound2; 
-                        } else {
-                            enemyHealth = 25 + (waveNumber - 15) * 5;
-                            enemySpeed = 140f + (waveNumber - 15) * 1f;
-                            currentEnemyTexture = enemyTexture3;
-                            currentDeathSound = enemyDeathSound3; 
-                        }
-
-                        enemies.add(new Enemy(startPoint.x, startPoint.y, enemySpeed, enemyHealth, enemyPath, currentEnemyTexture, currentDeathSound));
-                        enemiesSpawnedInWave++;
-                        individualEnemySpawnTimer = 0f;
-                    }
-                }
 
-            } else if (enemies.isEmpty()) {
-                if (waveNumber < MAX_WAVES) {
-                    waveNumber++;
-                    enemiesPerWave += 2;
-                    enemySpawnIntervalInWave = Math.max(0.1f, enemySpawnIntervalInWave - 0.05f);
-                    enemiesSpawnedInWave = 0;
-                    waveTimer = 0f;
-                    if (SettingsScreen.effectEnabled){
-                        newRoundSound.play(1f);
-                    }
-                } else {
-                    if (SettingsScreen.effectEnabled){
-                        gameWinSound.play(1f);
-                    }
-                    mainSound.stop();
-                    game.setScreen(new StartScreen(game));
-                }
-            }
-        }
+        profiler.stop(FrameProfiler.Phase.DRAW);
 
+        profiler.start(FrameProfiler.Phase.STAGE);
         stage.act(Math.min(Gdx.graphics.getDeltaTime(), 1 / 30f));
         stage.draw(); 
-
-        if (lives <= 0) { //game over
-            if (SettingsScreen.effectEnabled) {
-                gameOverSound.play(1f);
-            }
-            mainSound.stop();
-            dispose(); 
-            game.setScreen(new StartScreen(game));
+        if (stage.getBatch() instanceof SpriteBatch) {
+            drawCalls += ((SpriteBatch) stage.getBatch()).renderCalls;
+        }
+        drawCallsLastFrame = drawCalls;
+        profiler.stop(FrameProfiler.Phase.STAGE);
+        profiler.endFrame(simulation.getEnemies().size(), simulation.getTowers().size(), simulation.getProjectiles().size());
+        if (endlessReport != null) {
+            endlessReport.recordFrame(delta, profiler, (int) (simulation.getTickCount() - ticksBefore), simulation.getWaveNumber());
         }
-    }
 
-    /**
-     * Returns the current amount of benum coins.
-     * Pre-conditions: None
-     * Post-conditions: Returns the current total of benum coins.
-     * 
-     * @return the current amount of benum coins
-     */
-    public int getBenumCoin() {
-        return benumCoin;
+        if (simulation.isLost()) { //game over
+            if (endlessReport != null) endlessReport.finish("ran out of lives in wave " + simulation.getWaveNumber());
+            game.getEffects().play(gameOverSound, 1f);
+            game.showStartScreen();
+        }
     }
 
     /**
-     * Adds the specified amount of benum coins to the current total.
-     * Pre-conditions: amount must be a integer.
-     * Post-conditions: The benum coin total is increased by the specified amount.
-     * 
-     * @param amount the amount of coins to add
+     * Draws the wave, coin and lives counters, the tower costs, the game speed and the targeting mode of the tower under the cursor.
+     * Pre-conditions: the batch has begun with the camera's projection.
+     * Post-conditions: the HUD text is drawn on top of the world sprites.
+     *
+     * @param screenWidth the width of the screen
+     * @param screenHeight the height of the screen
      */
-    public void addBenumCoin(int amount) {
-        benumCoin += amount;
+    private void renderHud(int screenWidth, int screenHeight) {
+        hud.drawCounters(batch, screenWidth, screenHeight, simulation.getWaveNumber(), simulation.getBenumCoin(), simulation.getLives());
+        hud.drawTowerCosts(batch, towerIcons);
+        hud.drawSpeed(batch, simulation.getSpeed(), speedButton);
+
+        //targeting mode of the tower under the cursor
+        camera.unproject(hoverCoords.set(Gdx.input.getX(), Gdx.input.getY(), 0));
+        Towers hoveredTower = simulation.findTowerAt(hoverCoords.x, hoverCoords.y);
+        if (hoveredTower != null) {
+            hud.drawTargetingMode(batch, hoveredTower);
+        }
     }
 
     /**
-     * Spend the specified amount of benum coins.
-     * Pre-conditions: amount must be a positive integer and less than or equal to the current benum coin total.
-     * Post-conditions: The benum coin total is decreased by the specified amount if sufficient coins are available.
+     * Draws the render statistics overlay toggled with F3.
+     * Pre-conditions: the batch has begun.
+     * Post-conditions: the draw calls and largest batch of the last frame and the sprite and texture switch counts of this frame's flush are drawn below the lives text, with the texture loads of the wave and of the session and the projectile pool statistics.
      *
-     * @param amount the amount of coins to spend
-     * @return true if the coins were successfully spent, false otherwise.
+     * @param screenHeight the height of the screen
      */
-    public boolean spendBenumCoin(int amount) {
-        if (benumCoin >= amount) {
-            benumCoin -= amount;
-            return true;
-        } else {
-            return false;
-        }
+    private void renderStats(int screenHeight) {
+        hud.drawStats(batch, screenHeight, drawCallsLastFrame, batch.maxSpritesInBatch, spriteQueue.getSpritesLastFrame(), spriteQueue.getTextureSwitchesLastFrame(),
+            sprites, simulation.getProjectilePool());
     }
 
     /**
@@ -631,99 +626,126 @@ public class JungleMap implements Screen {
         }
 
         //path finding
-        enemyPath = new JunglePath();
-        enemyPath.addWaypoint(width * 1.00f, height * 0.87f);
-        enemyPath.addWaypoint(width * 0.82f, height * 0.87f);
-        enemyPath.addWaypoint(width * 0.82f, height * 0.66f);
-        enemyPath.addWaypoint(width * 0.84f, height * 0.65f);
-        enemyPath.addWaypoint(width * 0.86f, height * 0.64f);
-        enemyPath.addWaypoint(width * 0.88f, height * 0.61f);
-        enemyPath.addWaypoint(width * 0.91f, height * 0.59f);
-        enemyPath.addWaypoint(width * 0.92f, height * 0.57f);
-        enemyPath.addWaypoint(width * 0.95f, height * 0.50f);
-        enemyPath.addWaypoint(width * 0.95f, height * 0.40f);
-        enemyPath.addWaypoint(width * 0.95f, height * 0.38f);
-        enemyPath.addWaypoint(width * 0.94f, height * 0.35f);
-        enemyPath.addWaypoint(width * 0.92f, height * 0.30f);
-        enemyPath.addWaypoint(width * 0.87f, height * 0.25f);
-        enemyPath.addWaypoint(width * 0.84f, height * 0.23f);
-        enemyPath.addWaypoint(width * 0.78f, height * 0.20f);
-        enemyPath.addWaypoint(width * 0.70f, height * 0.20f);
-        enemyPath.addWaypoint(width * 0.65f, height * 0.22f);
-        enemyPath.addWaypoint(width * 0.62f, height * 0.27f);
-        enemyPath.addWaypoint(width * 0.58f, height * 0.34f);
-        enemyPath.addWaypoint(width * 0.58f, height * 0.53f);
-        enemyPath.addWaypoint(width * 0.61f, height * 0.58f);
-        enemyPath.addWaypoint(width * 0.66f, height * 0.63f);
-        enemyPath.addWaypoint(width * 0.70f, height * 0.67f);
-        enemyPath.addWaypoint(width * 0.70f, height * 0.87f);
-        enemyPath.addWaypoint(width * 0.65f, height * 0.87f);
-        enemyPath.addWaypoint(width * 0.57f, height * 0.70f);
-        enemyPath.addWaypoint(width * 0.50f, height * 0.50f);
-        enemyPath.addWaypoint(width * 0.42f, height * 0.30f);
-        enemyPath.addWaypoint(width * 0.35f, height * 0.20f);
-        enemyPath.addWaypoint(width * 0.31f, height * 0.20f);
-        enemyPath.addWaypoint(width * 0.31f, height * 0.40f);
-        enemyPath.addWaypoint(width * 0.38f, height * 0.45f);
-        enemyPath.addWaypoint(width * 0.41f, height * 0.49f);
-        enemyPath.addWaypoint(width * 0.43f, height * 0.52f);
-        enemyPath.addWaypoint(width * 0.45f, height * 0.65f);
-        enemyPath.addWaypoint(width * 0.42f, height * 0.75f);
-        enemyPath.addWaypoint(width * 0.39f, height * 0.83f);
-        enemyPath.addWaypoint(width * 0.36f, height * 0.85f);
-        enemyPath.addWaypoint(width * 0.30f, height * 0.87f);
-        enemyPath.addWaypoint(width * 0.22f, height * 0.87f);
-        enemyPath.addWaypoint(width * 0.18f, height * 0.84f);
-        enemyPath.addWaypoint(width * 0.12f, height * 0.79f);
-        enemyPath.addWaypoint(width * 0.10f, height * 0.75f);
-        enemyPath.addWaypoint(width * 0.07f, height * 0.70f);
-        enemyPath.addWaypoint(width * 0.07f, height * 0.57f);
-        enemyPath.addWaypoint(width * 0.10f, height * 0.50f);
-        enemyPath.addWaypoint(width * 0.15f, height * 0.45f);
-        enemyPath.addWaypoint(width * 0.20f, height * 0.40f);
-        enemyPath.addWaypoint(width * 0.20f, height * 0.20f);
-        enemyPath.addWaypoint(width * 0.00f, height * 0.20f);
+        simulation.setField(createPath(width, height), width, height);
+
+        //band along the path, from the distance field the simulation built for placement checks
+        if (forbiddenBandTexture != null) forbiddenBandTexture.dispose();
+        Pixmap bandPixmap = simulation.getPathClearance().createBandPixmap(GameSimulation.PATH_CLEARANCE_FROM_TOWER_EDGE + Towers.SIZE / 2f, new Color(1, 0, 0, 0.25f));
+        forbiddenBandTexture = new Texture(bandPixmap);
+        forbiddenBandTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        bandPixmap.dispose();
+    }
+
+    /**
+     * Builds the enemy path of the jungle map for the given screen size.
+     * Pre-conditions: width and height are positive.
+     * Post-conditions: Returns a new path whose waypoints are placed relative to the screen size. No graphics context is needed, so benchmarks can use it.
+     *
+     * @param width the width of the screen
+     * @param height the height of the screen
+     * @return the enemy path of the jungle map
+     */
+    public static JunglePath createPath(float width, float height) {
+        JunglePath path = new JunglePath();
+        path.addWaypoint(width * 1.00f, height * 0.87f);
+        path.addWaypoint(width * 0.82f, height * 0.87f);
+        path.addWaypoint(width * 0.82f, height * 0.66f);
+        path.addWaypoint(width * 0.84f, height * 0.65f);
+        path.addWaypoint(width * 0.86f, height * 0.64f);
+        path.addWaypoint(width * 0.88f, height * 0.61f);
+        path.addWaypoint(width * 0.91f, height * 0.59f);
+        path.addWaypoint(width * 0.92f, height * 0.57f);
+        path.addWaypoint(width * 0.95f, height * 0.50f);
+        path.addWaypoint(width * 0.95f, height * 0.40f);
+        path.addWaypoint(width * 0.95f, height * 0.38f);
+        path.addWaypoint(width * 0.94f, height * 0.35f);
+        path.addWaypoint(width * 0.92f, height * 0.30f);
+        path.addWaypoint(width * 0.87f, height * 0.25f);
+        path.addWaypoint(width * 0.84f, height * 0.23f);
+        path.addWaypoint(width * 0.78f, height * 0.20f);
+        path.addWaypoint(width * 0.70f, height * 0.20f);
+        path.addWaypoint(width * 0.65f, height * 0.22f);
+        path.addWaypoint(width * 0.62f, height * 0.27f);
+        path.addWaypoint(width * 0.58f, height * 0.34f);
+        path.addWaypoint(width * 0.58f, height * 0.53f);
+        path.addWaypoint(width * 0.61f, height * 0.58f);
+        path.addWaypoint(width * 0.66f, height * 0.63f);
+        path.addWaypoint(width * 0.70f, height * 0.67f);
+        path.addWaypoint(width * 0.70f, height * 0.87f);
+        path.addWaypoint(width * 0.65f, height * 0.87f);
+        path.addWaypoint(width * 0.57f, height * 0.70f);
+        path.addWaypoint(width * 0.50f, height * 0.50f);
+        path.addWaypoint(width * 0.42f, height * 0.30f);
+        path.addWaypoint(width * 0.35f, height * 0.20f);
+        path.addWaypoint(width * 0.31f, height * 0.20f);
+        path.addWaypoint(width * 0.31f, height * 0.40f);
+        path.addWaypoint(width * 0.38f, height * 0.45f);
+        path.addWaypoint(width * 0.41f, height * 0.49f);
+        path.addWaypoint(width * 0.43f, height * 0.52f);
+        path.addWaypoint(width * 0.45f, height * 0.65f);
+        path.addWaypoint(width * 0.42f, height * 0.75f);
+        path.addWaypoint(width * 0.39f, height * 0.83f);
+        path.addWaypoint(width * 0.36f, height * 0.85f);
+        path.addWaypoint(width * 0.30f, height * 0.87f);
+        path.addWaypoint(width * 0.22f, height * 0.87f);
+        path.addWaypoint(width * 0.18f, height * 0.84f);
+        path.addWaypoint(width * 0.12f, height * 0.79f);
+        path.addWaypoint(width * 0.10f, height * 0.75f);
+        path.addWaypoint(width * 0.07f, height * 0.70f);
+        path.addWaypoint(width * 0.07f, height * 0.57f);
+        path.addWaypoint(width * 0.10f, height * 0.50f);
+        path.addWaypoint(width * 0.15f, height * 0.45f);
+        path.addWaypoint(width * 0.20f, height * 0.40f);
+        path.addWaypoint(width * 0.20f, height * 0.20f);
+        path.addWaypoint(width * 0.00f, height * 0.20f);
+        return path;
     }
 
     @Override public void pause() {}
     @Override public void resume() {}
-    @Override public void hide() {}
-
     /**
-     * Called when the screen is disposed.
+     * Called when another screen replaces the map, which ends the game.
      * Pre-conditions: None
-     * Post-conditions: All resources are disposed of properly to free up memory.
+     * Post-conditions: the replay and any endless report of the session are closed and all resources of the session are disposed of, so the next show starts a new game;
+     * the preloaded assets stay for the next map.
      */
     @Override
-    public void dispose() {
+    public void hide() {
         if (batch != null) batch.dispose();
         if (shapeRenderer != null) shapeRenderer.dispose();
-        if (backgroundImage != null) backgroundImage.dispose();
-        if (font != null) font.dispose();
+        if (hud != null) hud.dispose();
+        if (profiler != null) profiler.dispose();
+        if (endlessReport != null) endlessReport.finish("ended by leaving the map in wave " + simulation.getWaveNumber());
         if (stage != null) stage.dispose();
-        if (towerIconTexture1 != null) towerIconTexture1.dispose();
-        if (towerIconTexture2 != null) towerIconTexture2.dispose();
-        if (towerIconTexture3 != null) towerIconTexture3.dispose();
-        if (leaveButtonTexture != null) leaveButtonTexture.dispose();
-        if (enemyTexture1 != null) enemyTexture1.dispose();
-        if (enemyTexture2 != null) enemyTexture2.dispose();
-        if (enemyTexture3 != null) enemyTexture3.dispose();
-        if (enemyDeathSound1 != null) enemyDeathSound1.dispose();
-        if (enemyDeathSound2 != null) enemyDeathSound2.dispose();
-        if (enemyDeathSound3 != null) enemyDeathSound3.dispose();
-        if (mainSound != null) mainSound.dispose();
-        if (towerPlaceSound != null) towerPlaceSound.dispose();
-        if (buttonClickSound != null) buttonClickSound.dispose();
-        if (newRoundSound != null) newRoundSound.dispose(); 
-        if (gameOverSound != null) gameOverSound.dispose();
-        if (gameWinSound != null) gameWinSound.dispose();
-
-        for (Towers tower : towers) {
-            tower.dispose();
-        }
+        if (forbiddenBandTexture != null) forbiddenBandTexture.dispose();
+
+        if (simulation != null) simulation.dispose();
+        if (replayRecorder != null) replayRecorder.close();
+        if (snapshots != null) snapshots.dispose();
+
+        if (sprites != null) sprites.dispose();
+
+        batch = null;
+        shapeRenderer = null;
+        hud = null;
+        profiler = null;
+        endlessReport = null;
+        stage = null;
+        forbiddenBandTexture = null;
+        simulation = null;
+        replayRecorder = null;
+        snapshots = null;
+        sprites = null;
+        currentDragPayload = null;
+    }
 
-        for (Enemy enemy : enemies) {
-            enemy.dispose();
-        }
+    /**
+     * Called when the game closes.
+     * Pre-conditions: None
+     * Post-conditions: a game still running is ended like in hide.
+     */
+    @Override
+    public void dispose() {
+        hide();
     }
 }
\ No newline at end of file
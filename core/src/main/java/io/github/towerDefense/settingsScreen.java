@@ -3,6 +3,7 @@
  * Last modified: 2025-06-10
  * This file is part of Rise of Benum Tower Defense.
  * The settings screen for the game.
+ * Main keeps one instance; its buttons and images are set up each time it is shown and given back when it is hidden.
  */
 
 package io.github.towerDefense;
@@ -25,6 +26,12 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 
 
 public class SettingsScreen implements Screen { 
+    private static final String BACKGROUND_IMAGE = "startBackground.png"; //shared with the start screen through the texture cache
+    private static final String EFFECTS_IMAGE = "effectsButton.png";
+    private static final String EFFECTS_MUTE_IMAGE = "effectsMute.png";
+    private static final String MUSIC_IMAGE = "musicButton.png";
+    private static final String MUSIC_MUTE_IMAGE = "musicMute.png";
+
     private final Main game;
     private SpriteBatch batch;
     private Texture backgroundImage;
@@ -37,10 +44,7 @@ public class SettingsScreen implements Screen {
     private ImageButton effectButton;
 
     private Stage stage;
-    private Skin skin;
 
-    private Sound mainSound;
-    private long mainID;
     private Sound buttonClickSound;
 
     public static boolean effectEnabled = true; 
@@ -54,23 +58,20 @@ public class SettingsScreen implements Screen {
 /**
  * Initializes the settings screen.
  * Pre-condition: Files must exist
- * Post-condition: Sets up the UI elements, background, and sound effects.
+ * Post-condition: Sets up the UI elements, background, and sound effects; the images come from the shared texture cache.
  */
 @Override
 public void show() {
-    batch = new SpriteBatch();
-    backgroundImage = new Texture("startBackground.png");
-    mainSound = Gdx.audio.newSound(Gdx.files.internal("audio/startMusic.mp3"));
-    if (musicEnabled) {
-        mainID = mainSound.play(1.0f);
-        mainSound.setLooping(mainID, true);
-    }
-    buttonClickSound = Gdx.audio.newSound(Gdx.files.internal("audio/buttonClick.wav"));
+    if (batch == null) batch = new SpriteBatch();
+    TextureCache textures = game.getTextures();
+    backgroundImage = textures.acquire(BACKGROUND_IMAGE);
+    game.getMusic().play(MusicManager.START_MUSIC, 1.0f);
+    buttonClickSound = game.getAssets().getSound(GameAssets.BUTTON_CLICK_SOUND);
 
     stage = new Stage(new ScreenViewport());
     Gdx.input.setInputProcessor(stage);
 
-    skin = new Skin(Gdx.files.internal("ui/uiskin.json"));
+    Skin skin = game.getSkin();
 
     Table table = new Table();
     table.setFillParent(true);
@@ -81,7 +82,7 @@ public void show() {
         /**
          * Handles the click event for the start button.
          * Pre-condition: x and y coordinates are valid.
-         * Post-condition: Stops the main sound and navigates back to the start screen.
+         * Post-condition: Navigates back to the start screen, the music keeps playing.
          * 
          * @param event the input event
          * @param x the x-coordinate of the click
@@ -89,11 +90,8 @@ public void show() {
          */
         @Override
         public void clicked(InputEvent event, float x, float y) {
-            if (effectEnabled){
-                buttonClickSound.play(1f);
-            }
-            mainSound.stop();
-            game.setScreen(new StartScreen(game));
+            game.getEffects().play(buttonClickSound, 1f);
+            game.showStartScreen();
         }
     });
 
@@ -103,8 +101,8 @@ public void show() {
     stage.addActor(table);
 
     // Effects Button
-    effectMute = new Texture("effectsMute.png");
-    effectImage = new Texture("effectsButton.png");
+    effectMute = textures.acquire(EFFECTS_MUTE_IMAGE);
+    effectImage = textures.acquire(EFFECTS_IMAGE);
 
     TextureRegionDrawable effectOnDrawable = new TextureRegionDrawable(new TextureRegion(effectImage));
     TextureRegionDrawable effectOffDrawable = new TextureRegionDrawable(new TextureRegion(effectMute));
@@ -125,7 +123,7 @@ public void show() {
         public void clicked(InputEvent event, float x, float y) {
             effectEnabled = !effectEnabled;
             if (effectEnabled) {
-                buttonClickSound.play(1f);
+                game.getEffects().play(buttonClickSound, 1f);
                 effectButton.getStyle().imageUp = effectOnDrawable; 
             } else {
                 effectButton.getStyle().imageUp = effectOffDrawable; 
@@ -134,8 +132,8 @@ public void show() {
     });
 
     // Music Button
-    musicMute = new Texture("musicMute.png");
-    musicImage = new Texture("musicButton.png");
+    musicMute = textures.acquire(MUSIC_MUTE_IMAGE);
+    musicImage = textures.acquire(MUSIC_IMAGE);
 
     TextureRegionDrawable musicOnDrawable = new TextureRegionDrawable(new TextureRegion(musicImage));
     TextureRegionDrawable musicOffDrawable = new TextureRegionDrawable(new TextureRegion(musicMute));
@@ -145,19 +143,13 @@ public void show() {
         @Override
         public void clicked(InputEvent event, float x, float y) {
             musicEnabled = !musicEnabled;
+            game.getMusic().setEnabled(musicEnabled);
             if (musicEnabled) {
-                mainID = mainSound.play(1.0f);
-                mainSound.setLooping(mainID, true);
                 musicButton.getStyle().imageUp = musicOnDrawable; 
             } else {
-                if (mainSound != null) {
-                    mainSound.stop(mainID);
-                }
                 musicButton.getStyle().imageUp = musicOffDrawable; 
             }
-            if (effectEnabled){
-                buttonClickSound.play(1f);
-            }
+            game.getEffects().play(buttonClickSound, 1f);
         }
     });
 
@@ -187,23 +179,33 @@ public void show() {
         stage.draw();
     }
 
+    /**
+     * Called when another screen replaces the settings screen.
+     * Pre-condition: None
+     * Post-condition: Disposes the stage and gives the images back to the texture cache, which keeps them for the next visit.
+     */
+    @Override
+    public void hide() {
+        if (stage == null) return;
+        stage.dispose();
+        stage = null;
+        TextureCache textures = game.getTextures();
+        textures.release(BACKGROUND_IMAGE);
+        textures.release(EFFECTS_IMAGE);
+        textures.release(EFFECTS_MUTE_IMAGE);
+        textures.release(MUSIC_IMAGE);
+        textures.release(MUSIC_MUTE_IMAGE);
+    }
+
     /**
      * Disposes of the resources used by the settings screen.
      * Pre-condition: None
-     * Post-condition: Releases all textures, sounds, and stage resources.
+     * Post-condition: Releases the sprite batch and everything hide gives back. The skin, sounds and music belong to the game.
      */
     @Override
     public void dispose() {
-        batch.dispose();
-        backgroundImage.dispose();
-        musicImage.dispose();
-        musicMute.dispose();
-        effectImage.dispose();
-        effectMute.dispose();
-        buttonClickSound.dispose();
-        stage.dispose();
-        skin.dispose();
-        mainSound.dispose();
+        hide();
+        if (batch != null) batch.dispose();
     }
 
     /**
@@ -217,6 +219,5 @@ public void show() {
     }
     @Override public void pause() {}
     @Override public void resume() {}
-    @Override public void hide() {}
 }
 
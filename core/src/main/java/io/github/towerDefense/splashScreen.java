@@ -1,8 +1,9 @@
 /**
  * @author Sahil Sahu & Richard Pu
- * Last modified: 2025-06-12
+ * Last modified: 2026-10-17
  * This file is part of Rise of Benum Tower Defense.
  * Splash screen for the game
+ * While the logo shows, the map assets load in the background and a bar under the logo shows how far they are.
  */
 
 package io.github.towerDefense;
@@ -16,9 +17,15 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
 public class SplashScreen implements Screen {
+    private static final int LOAD_MILLIS_PER_FRAME = 10; //render thread time for uploading loaded assets, keeps the fade smooth
+    private static final float BAR_WIDTH = 0.4f; //of the window width
+    private static final float BAR_HEIGHT = 6f;
+
     private final Main game;
+    private GameAssets assets;
     private SpriteBatch batch;
     private Texture image;
+    private Texture pixel; //stretched into the progress bar
     private float elapsedTime = 0f;
     private float alpha = 0f;
     private enum State { FADE_IN, HOLD, FADE_OUT }
@@ -31,11 +38,20 @@ public class SplashScreen implements Screen {
     /**
      * Initializes the splash screen.
      * Pre-condition: Files must exist
-     * Post-condition: Loadsthe splash image and initializes the sprite batch.
+     * Post-condition: Loadsthe splash image, initializes the sprite batch and starts loading the map assets.
      */
     @Override
     public void show() {
+        assets = game.getAssets();
+        assets.queueAll();
+
         batch = new SpriteBatch();
+        Pixmap pixelPixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixelPixmap.setColor(1, 1, 1, 1);
+        pixelPixmap.fill();
+        pixel = new Texture(pixelPixmap);
+        pixelPixmap.dispose();
+
         try {
             image = new Texture("benumTowerLogo.png");
         } catch (Exception e) {
@@ -51,13 +67,14 @@ public class SplashScreen implements Screen {
     /**
      * Renders the splash screen with a fade-in and fade-out effect.
      * Pre-condition: Files must exist
-     * Post-condition: Displays the splash screen, fades it in, holds it for a while, and then fades it out.
+     * Post-condition: Displays the splash screen, fades it in, holds it for a while and until the map assets have loaded, and then fades it out.
      * 
      * @param delta The time since the last frame in seconds.
      */
     @Override
     public void render(float delta) {
         elapsedTime += delta;
+        boolean loaded = assets.update(LOAD_MILLIS_PER_FRAME);
 
         switch (state) {
             case FADE_IN:
@@ -69,7 +86,7 @@ public class SplashScreen implements Screen {
                 }
                 break;
             case HOLD:
-                if (elapsedTime >= 2f) {
+                if (elapsedTime >= 2f && loaded) {
                     state = State.FADE_OUT;
                     elapsedTime = 0f;
                 }
@@ -83,12 +100,12 @@ public class SplashScreen implements Screen {
                     if (preferences.exists()) { //checks if tutorial has been completed
                         String content = preferences.readString().trim(); 
                         if ("true".equalsIgnoreCase(content)) { 
-                            game.setScreen(new StartScreen(game)); 
+                            game.showStartScreen();
                         } else {
-                            game.setScreen(new Tutorial(game));
+                            game.showTutorial();
                         }
                     } else {
-                        game.setScreen(new Tutorial(game)); 
+                        game.showTutorial();
                     }
 
                     dispose();
@@ -115,6 +132,15 @@ public class SplashScreen implements Screen {
         batch.begin();
         batch.setColor(1f, 1f, 1f, alpha);
         batch.draw(image, x, y, scaledWidth, scaledHeight);
+
+        //loading bar
+        float barWidth = windowWidth * BAR_WIDTH;
+        float barX = (windowWidth - barWidth) / 2f;
+        float barY = y - 4 * BAR_HEIGHT;
+        batch.setColor(0.3f, 0.3f, 0.3f, alpha);
+        batch.draw(pixel, barX, barY, barWidth, BAR_HEIGHT);
+        batch.setColor(1f, 1f, 1f, alpha);
+        batch.draw(pixel, barX, barY, barWidth * assets.getProgress(), BAR_HEIGHT);
         batch.end();
     }
 
@@ -126,11 +152,12 @@ public class SplashScreen implements Screen {
     /**
      * Disposes of the resources used by the splash screen.
      * Pre-condition: None
-     * Post-condition: Releases the sprite batch and texture resources.
+     * Post-condition: Releases the sprite batch and texture resources. The map assets stay loaded for the map screens.
      */
     @Override
     public void dispose() {
         batch.dispose();
         image.dispose();
+        pixel.dispose();
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@
  * Last modified: 2025-06-10
  * This file is part of Rise of Benum Tower Defense.
  * Start screen for the game
+ * Main keeps one instance; its buttons and images are set up each time it is shown and given back when it is hidden.
  */
 
 package io.github.towerDefense;
@@ -23,10 +24,12 @@ import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 
-import io.github.towerDefense.map.JungleMap;
-
 
 public class StartScreen implements Screen { 
+    private static final String BACKGROUND_IMAGE = "startBackground.png";
+    private static final String LOGO_IMAGE = "textBasedLogo.png";
+    private static final String SETTINGS_IMAGE = "settings.png";
+
     private final Main game;
     private SpriteBatch batch;
     private Texture backgroundImage;
@@ -34,10 +37,7 @@ public class StartScreen implements Screen {
     private Texture settingsImage;
 
     private Stage stage;
-    private Skin skin;
 
-    private Sound mainSound;
-    private long mainID;
     private Sound buttonClickSound;
 
     public StartScreen(Main game) {
@@ -47,30 +47,27 @@ public class StartScreen implements Screen {
     /**
      * Initializes the start screen.
      * Pre-condition: Files must exist
-     * Post-condition: Sets up the UI elements, background, and sound effects.
+     * Post-condition: Sets up the UI elements, background, and sound effects; the images come from the shared texture cache.
      */
     @Override
     public void show() {
-        batch = new SpriteBatch();
-        backgroundImage = new Texture("startBackground.png");
-        logoImage = new Texture("textBasedLogo.png");
-        settingsImage = new Texture("settings.png");
+        if (batch == null) batch = new SpriteBatch();
+        TextureCache textures = game.getTextures();
+        backgroundImage = textures.acquire(BACKGROUND_IMAGE);
+        logoImage = textures.acquire(LOGO_IMAGE);
+        settingsImage = textures.acquire(SETTINGS_IMAGE);
 
-        // Start music
-        mainSound = Gdx.audio.newSound(Gdx.files.internal("audio/startMusic.mp3"));
-        if (SettingsScreen.musicEnabled) {
-            mainID = mainSound.play(1.0f);
-            mainSound.setLooping(mainID, true);
-        }
+        // Start music, keeps playing when coming back from the settings
+        game.getMusic().play(MusicManager.START_MUSIC, 1.0f);
 
-        buttonClickSound = Gdx.audio.newSound(Gdx.files.internal("audio/buttonClick.wav"));
+        buttonClickSound = game.getAssets().getSound(GameAssets.BUTTON_CLICK_SOUND);
 
         // Stage and input
         stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage);
 
         // Skin
-        skin = new Skin(Gdx.files.internal("ui/uiskin.json"));
+        Skin skin = game.getSkin();
 
         // Layout table for buttons
         Table table = new Table();
@@ -82,7 +79,7 @@ public class StartScreen implements Screen {
             /**
              * Handles the click event for the start button.
              * Pre-condition: x and y coordinates are valid.
-             * Post-condition: Stops the main sound and navigates to the JungleMap screen.
+             * Post-condition: Navigates to the JungleMap screen, whose music fades in.
              * 
              * @param event the input event
              * @param x the x-coordinate of the click
@@ -90,11 +87,8 @@ public class StartScreen implements Screen {
              */
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                mainSound.stop();
-                if (SettingsScreen.effectEnabled){
-                    buttonClickSound.play(1f);
-                }
-                game.setScreen(new JungleMap(game));
+                game.getEffects().play(buttonClickSound, 1f);
+                game.showJungleMap();
             }
         });
 
@@ -103,7 +97,7 @@ public class StartScreen implements Screen {
             /**
              * Handles the click event for the tutorial button.
              * Pre-condition: x and y coordinates are valid.
-             * Post-condition: Stops the main sound and navigates to the Tutorial screen.
+             * Post-condition: Navigates to the Tutorial screen, whose music fades in.
              * 
              * @param event the input event
              * @param x the x-coordinate of the click
@@ -111,11 +105,26 @@ public class StartScreen implements Screen {
              */
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                mainSound.stop();
-                if (SettingsScreen.effectEnabled){
-                    buttonClickSound.play(1f);
-                }
-                game.setScreen(new Tutorial(game));
+                game.getEffects().play(buttonClickSound, 1f);
+                game.showTutorial();
+            }
+        });
+
+        TextButton endlessButton = new TextButton("Endless", skin);
+        endlessButton.addListener(new ClickListener() {
+            /**
+             * Handles the click event for the endless button.
+             * Pre-condition: x and y coordinates are valid.
+             * Post-condition: Navigates to the jungle map with endless rules, whose music fades in.
+             * 
+             * @param event the input event
+             * @param x the x-coordinate of the click
+             * @param y the y-coordinate of the click
+             */
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                game.getEffects().play(buttonClickSound, 1f);
+                game.showEndlessMap();
             }
         });
 
@@ -124,6 +133,8 @@ public class StartScreen implements Screen {
         table.add(startButton).width(200).height(50).pad(10);
         table.row();
         table.add(tutorialButton).width(200).height(50).pad(10);
+        table.row();
+        table.add(endlessButton).width(200).height(50).pad(10);
 
         stage.addActor(table);
 
@@ -133,7 +144,7 @@ public class StartScreen implements Screen {
             /**
              * Handles the click event for the settings button.
              * Pre-condition: x and y coordinates are valid.
-             * Post-condition: Stops the main sound and navigates to the Settings screen.
+             * Post-condition: Navigates to the Settings screen.
              * 
              * @param event the input event
              * @param x the x-coordinate of the click
@@ -141,11 +152,8 @@ public class StartScreen implements Screen {
              */
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                if (SettingsScreen.effectEnabled){
-                    buttonClickSound.play(1f);
-                }
-                mainSound.stop();
-                game.setScreen(new SettingsScreen(game));
+                game.getEffects().play(buttonClickSound, 1f);
+                game.showSettingsScreen();
             }
         });
 
@@ -178,20 +186,31 @@ public class StartScreen implements Screen {
         stage.draw();
     }
 
+    /**
+     * Called when another screen replaces the start screen.
+     * Pre-condition: None
+     * Post-condition: Disposes the stage and gives the images back to the texture cache, which keeps them for the next visit.
+     */
+    @Override
+    public void hide() {
+        if (stage == null) return;
+        stage.dispose();
+        stage = null;
+        TextureCache textures = game.getTextures();
+        textures.release(BACKGROUND_IMAGE);
+        textures.release(LOGO_IMAGE);
+        textures.release(SETTINGS_IMAGE);
+    }
+
     /**
      * Disposes of the resources used by the start screen.
      * Pre-condition: None
-     * Post-condition: Disposes the sprite batch, textures, stage, skin, and sound resources.
+     * Post-condition: Disposes the sprite batch and everything hide gives back. The skin, sounds and music belong to the game.
      */
     @Override
     public void dispose() {
-        batch.dispose();
-        backgroundImage.dispose();
-        logoImage.dispose();
-        settingsImage.dispose();
-        stage.dispose();
-        skin.dispose();
-        mainSound.dispose();
+        hide();
+        if (batch != null) batch.dispose();
     }
 
     /**
@@ -204,5 +223,4 @@ public class StartScreen implements Screen {
     }
     @Override public void pause() {}
     @Override public void resume() {}
-    @Override public void hide() {}
 }
\ No newline at end of file
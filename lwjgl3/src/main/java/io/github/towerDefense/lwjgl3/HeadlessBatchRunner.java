@@ -0,0 +1,384 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Plays whole games without a window to tune tower costs and enemy curves. Each game is an independent GameSimulation
+ * on a worker thread, so throughput grows with the number of cores. Results are written to a CSV file, one line per game.
+ *
+ * Usage: HeadlessBatchRunner parameters.properties placements.txt [results.csv]
+ * The parameters file holds the runner settings (rules, games, threads, width, height, maxTicks, jitter, seed) and any
+ * overrides understood by GameRules.withParameters. Each line of the placement script is "TowerTypeN x y [targeting mode]",
+ * with x and y the centre of the tower as a fraction of the field size; towers are bought in script order as soon as
+ * there are enough coins.
+ */
+
+package io.github.towerDefense.lwjgl3;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.github.towerDefense.GameRules;
+import io.github.towerDefense.GameSimulation;
+import io.github.towerDefense.TargetingMode;
+import io.github.towerDefense.TowerType;
+import io.github.towerDefense.Towers;
+import io.github.towerDefense.map.JungleMap;
+
+public class HeadlessBatchRunner {
+    private static final int DEFAULT_WIDTH = 1920;
+    private static final int DEFAULT_HEIGHT = 1080;
+    private static final int DEFAULT_MAX_TICKS = 60 * 60 * 60; //one hour of game time, in case a game never ends
+
+    private final GameRules rules;
+    private final List<Placement> placements;
+    private final int width;
+    private final int height;
+    private final long maxTicks;
+    private final float jitter;
+    private final long seed;
+
+    /**
+     * A tower the script buys once there are enough coins.
+     */
+    private static class Placement {
+        final TowerType towerType;
+        final float x; //centre as a fraction of the field width
+        final float y; //centre as a fraction of the field height
+        final TargetingMode targetingMode; //null keeps the default
+
+        Placement(TowerType towerType, float x, float y, TargetingMode targetingMode) {
+            this.towerType = towerType;
+            this.x = x;
+            this.y = y;
+            this.targetingMode = targetingMode;
+        }
+    }
+
+    /**
+     * The outcome of one game.
+     */
+    private static class GameResult {
+        int game;
+        String outcome; //won, lost or timeout
+        int wavesSurvived;
+        int livesLost;
+        int coins;
+        int kills;
+        int[] killsByTowerType;
+        int towersPlaced;
+        int placementsSkipped;
+        long ticks;
+        double ticksPerSecond;
+    }
+
+    /**
+     * Constructor for the HeadlessBatchRunner class.
+     *
+     * @param rules The rules every game is played with.
+     * @param placements The towers to buy, in order.
+     * @param width The width of the playing field.
+     * @param height The height of the playing field.
+     * @param maxTicks The number of ticks after which an unfinished game is stopped.
+     * @param jitter The largest random offset in pixels added to each placement, 0 for identical games.
+     * @param seed The seed the offsets of game 0 are drawn from; game n uses seed + n.
+     */
+    private HeadlessBatchRunner(GameRules rules, List<Placement> placements, int width, int height, long maxTicks, float jitter, long seed) {
+        this.rules = rules;
+        this.placements = placements;
+        this.width = width;
+        this.height = height;
+        this.maxTicks = maxTicks;
+        this.jitter = jitter;
+        this.seed = seed;
+    }
+
+    /**
+     * Loads the parameters and placement script, plays the games on all cores and writes the results.
+     *
+     * @param args The parameters file, the placement script and optionally the results file.
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Usage: HeadlessBatchRunner parameters.properties placements.txt [results.csv]");
+            return;
+        }
+
+        Properties parameters = new Properties();
+        try (Reader reader = new FileReader(args[0])) {
+            parameters.load(reader);
+        } catch (IOException e) {
+            System.out.println("Could not read parameters " + args[0] + ": " + e.getMessage());
+            return;
+        }
+
+        GameRules baseRules = GameRules.forName(parameters.getProperty("rules", "jungle").trim());
+        if (baseRules == null) {
+            System.out.println("Unknown rules " + parameters.getProperty("rules") + ", use jungle, tutorial or endless");
+            return;
+        }
+        GameRules rules = baseRules.withParameters(parameters);
+
+        List<Placement> placements;
+        try {
+            placements = loadPlacements(args[1], rules);
+        } catch (IOException e) {
+            System.out.println("Could not read placements " + args[1] + ": " + e.getMessage());
+            return;
+        }
+
+        int games = intSetting(parameters, "games", 100);
+        int threads = intSetting(parameters, "threads", Runtime.getRuntime().availableProcessors());
+        HeadlessBatchRunner runner = new HeadlessBatchRunner(rules, placements,
+            intSetting(parameters, "width", DEFAULT_WIDTH),
+            intSetting(parameters, "height", DEFAULT_HEIGHT),
+            intSetting(parameters, "maxTicks", DEFAULT_MAX_TICKS),
+            floatSetting(parameters, "jitter", 0f),
+            longSetting(parameters, "seed", 1L));
+
+        File output = new File(args.length > 2 ? args[2] : "batch-results/games-" + System.currentTimeMillis() + ".csv");
+        runner.run(games, threads, output);
+    }
+
+    /**
+     * Plays the games and writes one CSV line per game, in game order.
+     * Precondition: games and threads are positive.
+     * Postcondition: The results file holds a header and a line per game; a summary is printed.
+     *
+     * @param games The number of games to play.
+     * @param threads The number of worker threads.
+     * @param output The results file.
+     */
+    private void run(int games, int threads, File output) {
+        System.out.println("Playing " + games + " games on " + threads + " threads, " + placements.size() + " placements");
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<GameResult>> futures = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            final int game = i;
+            futures.add(executor.submit(() -> playGame(game)));
+        }
+
+        File folder = output.getAbsoluteFile().getParentFile();
+        if (folder != null) {
+            folder.mkdirs();
+        }
+        long totalTicks = 0;
+        int wins = 0;
+        try (Writer writer = new BufferedWriter(new FileWriter(output))) {
+            writer.write(csvHeader());
+            for (Future<GameResult> future : futures) {
+                GameResult result = future.get();
+                writer.write(csvLine(result));
+                totalTicks += result.ticks;
+                if ("won".equals(result.outcome)) {
+                    wins++;
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Could not write results " + output.getPath() + ": " + e.getMessage());
+        } catch (InterruptedException | ExecutionException e) {
+            System.out.println("A game failed: " + e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println(String.format(Locale.ROOT, "%d/%d games won in %.1f s, %.0f ticks per second in total",
+            wins, games, seconds, totalTicks / seconds));
+        System.out.println("Results saved to " + output.getPath());
+    }
+
+    /**
+     * Plays one game from start to end.
+     * Precondition: None
+     * Postcondition: Returns the outcome; the game shares no state with other games, so any thread may call this.
+     *
+     * @param game The number of the game, used for its random offsets.
+     * @return The result of the game.
+     */
+    private GameResult playGame(int game) {
+        GameSimulation simulation = new GameSimulation(rules, rules.createEnemyTypes(null, null), null);
+        simulation.setTowerPool(null); //the games already keep every core busy
+        simulation.setField(JungleMap.createPath(width, height), width, height);
+
+        //offsets are drawn up front so every placement gets the same one no matter when it is bought
+        Random random = new Random(seed + game);
+        float[] offsets = new float[placements.size() * 2];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = jitter > 0 ? (random.nextFloat() * 2 - 1) * jitter : 0;
+        }
+
+        GameResult result = new GameResult();
+        result.game = game;
+        int next = 0;
+        long start = System.nanoTime();
+        while (!simulation.isOver() && simulation.getTickCount() < maxTicks) {
+            while (next < placements.size()) {
+                Placement placement = placements.get(next);
+                if (simulation.getBenumCoin() < placement.towerType.getCost()) {
+                    break; //saves up for the next tower in the script
+                }
+                float placeX = placement.x * width + offsets[next * 2] - Towers.SIZE / 2f;
+                float placeY = placement.y * height + offsets[next * 2 + 1] - Towers.SIZE / 2f;
+                Towers tower = simulation.placeTower(placement.towerType, placeX, placeY);
+                if (tower == null) {
+                    result.placementsSkipped++; //on the path, in the user panel or on another tower
+                } else {
+                    result.towersPlaced++;
+                    if (placement.targetingMode != null) {
+                        tower.setTargetingMode(placement.targetingMode);
+                    }
+                }
+                next++;
+            }
+            simulation.tick();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        result.outcome = simulation.isWon() ? "won" : simulation.isLost() ? "lost" : "timeout";
+        result.wavesSurvived = simulation.isWon() ? rules.getMaxWaves() : simulation.getWaveNumber() - 1;
+        result.livesLost = rules.getStartingLives() - Math.max(0, simulation.getLives());
+        result.coins = simulation.getBenumCoin();
+        result.kills = simulation.getKills();
+        result.killsByTowerType = new int[rules.getTowerTypeCount()];
+        for (int i = 0; i < result.killsByTowerType.length; i++) {
+            result.killsByTowerType[i] = simulation.getKills(i);
+        }
+        result.ticks = simulation.getTickCount();
+        result.ticksPerSecond = elapsed > 0 ? result.ticks / (elapsed / 1e9) : 0;
+        return result;
+    }
+
+    private String csvHeader() {
+        StringBuilder header = new StringBuilder("game,outcome,waves_survived,lives_lost,coins,kills");
+        for (int i = 0; i < rules.getTowerTypeCount(); i++) {
+            header.append(",kills_").append(rules.getTowerType(i).getName());
+        }
+        header.append(",towers_placed,placements_skipped,ticks,ticks_per_second\n");
+        return header.toString();
+    }
+
+    private String csvLine(GameResult result) {
+        StringBuilder line = new StringBuilder();
+        line.append(result.game).append(',').append(result.outcome).append(',').append(result.wavesSurvived)
+            .append(',').append(result.livesLost).append(',').append(result.coins).append(',').append(result.kills);
+        for (int kills : result.killsByTowerType) {
+            line.append(',').append(kills);
+        }
+        line.append(',').append(result.towersPlaced).append(',').append(result.placementsSkipped).append(',').append(result.ticks)
+            .append(',').append(String.format(Locale.ROOT, "%.0f", result.ticksPerSecond)).append('\n');
+        return line.toString();
+    }
+
+    /**
+     * Reads the placement script.
+     * Precondition: rules must not be null.
+     * Postcondition: Returns the placements in file order; blank lines, # comments and lines that cannot be read are skipped with a message.
+     *
+     * @param path The path of the script.
+     * @param rules The rules whose tower types the script names.
+     * @return The placements.
+     * @throws IOException If the file cannot be read.
+     */
+    private static List<Placement> loadPlacements(String path, GameRules rules) throws IOException {
+        List<Placement> placements = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(path))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] parts = line.split("\\s+");
+                if (parts.length < 3) {
+                    System.out.println("Skipping placement on line " + lineNumber + ", expected: towerType x y [targetingMode]: " + line);
+                    continue;
+                }
+                TowerType towerType = rules.findTowerType(parts[0]);
+                if (towerType == null) {
+                    System.out.println("Skipping placement on line " + lineNumber + ", unknown tower type " + parts[0] + ": " + line);
+                    continue;
+                }
+                float x;
+                float y;
+                try {
+                    x = Float.parseFloat(parts[1]);
+                    y = Float.parseFloat(parts[2]);
+                } catch (NumberFormatException e) {
+                    System.out.println("Skipping placement on line " + lineNumber + ", the position is not a number: " + line);
+                    continue;
+                }
+                TargetingMode mode = null;
+                if (parts.length > 3) {
+                    try {
+                        mode = TargetingMode.valueOf(parts[3].toUpperCase(Locale.ROOT));
+                    } catch (IllegalArgumentException e) {
+                        System.out.println("Skipping placement on line " + lineNumber + ", unknown targeting mode " + parts[3] + ": " + line);
+                        continue;
+                    }
+                }
+                placements.add(new Placement(towerType, x, y, mode));
+            }
+        }
+        return placements;
+    }
+
+    //like GameRules.intParameter, a bad value is reported and the default is used instead of ending the batch
+    private static int intSetting(Properties parameters, String key, int fallback) {
+        String value = parameters.getProperty(key);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.out.println("Ignoring setting " + key + ", not a whole number: " + value + ", using " + fallback);
+            return fallback;
+        }
+    }
+
+    private static long longSetting(Properties parameters, String key, long fallback) {
+        String value = parameters.getProperty(key);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            System.out.println("Ignoring setting " + key + ", not a whole number: " + value + ", using " + fallback);
+            return fallback;
+        }
+    }
+
+    private static float floatSetting(Properties parameters, String key, float fallback) {
+        String value = parameters.getProperty(key);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Float.parseFloat(value.trim());
+        } catch (NumberFormatException e) {
+            System.out.println("Ignoring setting " + key + ", not a number: " + value + ", using " + fallback);
+            return fallback;
+        }
+    }
+}
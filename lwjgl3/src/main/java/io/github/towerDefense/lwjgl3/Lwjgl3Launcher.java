@@ -11,22 +11,32 @@ import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 
 import io.github.towerDefense.Main;
+import io.github.towerDefense.TextureCache;
 
 public class Lwjgl3Launcher {
     
     /** 
-     * @param args
+     * @param args Optionally the video memory in MB that menu images nobody shows may keep taking up.
      */
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; 
-        createApplication();
+        createApplication(args);
     }
 
     /** 
+     * @param args The command line arguments.
      * @return Lwjgl3Application
      */
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new Main(), getDefaultConfiguration());
+    private static Lwjgl3Application createApplication(String[] args) {
+        long textureBudgetBytes = TextureCache.DEFAULT_BUDGET_BYTES;
+        if (args.length > 0) {
+            try {
+                textureBudgetBytes = Long.parseLong(args[0]) * 1024 * 1024;
+            } catch (NumberFormatException e) {
+                System.out.println("Texture budget " + args[0] + " is not a number of MB, using the default");
+            }
+        }
+        return new Lwjgl3Application(new Main(textureBudgetBytes), getDefaultConfiguration());
     }
 
     /** 
@@ -0,0 +1,69 @@
+/**
+ * @author Sahil Sahu & Richard Pu
+ * Last modified: 2026-10-17
+ * This file is part of Rise of Benum Tower Defense.
+ * Plays a recorded session back without a window, as fast as the simulation runs, and checks every tick against the recording.
+ * A late-game session that took an hour to play re-runs in seconds, so it can be profiled or used to reproduce a bug.
+ *
+ * Usage: ReplayRunner file.replay [repeats]
+ */
+
+package io.github.towerDefense.lwjgl3;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Locale;
+
+import io.github.towerDefense.GameSimulation;
+import io.github.towerDefense.ReplayPlayer;
+
+public class ReplayRunner {
+    private static final String USAGE = "Usage: ReplayRunner file.replay [repeats]";
+
+    /**
+     * Plays the replay the given number of times and prints the result of each run.
+     *
+     * @param args The replay file and optionally how often to play it, e.g. to let the JIT warm up before profiling.
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println(USAGE);
+            return;
+        }
+        int repeats = 1;
+        if (args.length > 1) {
+            try {
+                repeats = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid repeats: " + args[1]);
+                System.out.println(USAGE);
+                return;
+            }
+        }
+
+        for (int run = 1; run <= repeats; run++) {
+            try (FileInputStream in = new FileInputStream(args[0])) { //closed even if the recording is unreadable
+                ReplayPlayer player = new ReplayPlayer(in);
+                player.play();
+                printResult(run, player);
+            } catch (IOException e) {
+                System.out.println("Could not play replay " + args[0] + ": " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private static void printResult(int run, ReplayPlayer player) {
+        GameSimulation simulation = player.getSimulation();
+        double seconds = player.getElapsedNanos() / 1e9;
+        String outcome = simulation.isWon() ? "won" : simulation.isLost() ? "lost" : "unfinished";
+        System.out.println(String.format(Locale.ROOT, "Run %d: %d ticks in %.2f s (%.0f ticks per second, %.0fx real time), wave %d, %s%s",
+            run, player.getTicks(), seconds, player.getTicks() / seconds, player.getTicks() * GameSimulation.TICK / seconds,
+            simulation.getWaveNumber(), outcome, player.isComplete() ? "" : ", replay was cut short"));
+        if (player.getFirstMismatchTick() < 0) {
+            System.out.println("Every tick matched the recording");
+        } else {
+            System.out.println("Desync: " + player.getMismatches() + " ticks differ from the recording, starting at tick " + player.getFirstMismatchTick());
+        }
+    }
+}